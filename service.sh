@@ -11,6 +11,39 @@ run_maven() {
                maven:3-adoptopenjdk-11-openj9 $@
 }
 
+run_maven_hotspot() {
+
+    docker run --rm \
+               -w /build \
+               -v $BASEDIR:/build \
+               -v ~/.m2:/root/.m2 \
+               maven:3-eclipse-temurin-11 $@
+}
+
+measure_cold_start() {
+
+    local runs=${1:-10}
+    local classpath="$BASEDIR/target/fitmap-functions-2.0.0.jar:$(cat $BASEDIR/target/appcds-classpath.txt)"
+
+    for archive in none $BASEDIR/target/appcds.jsa; do
+
+        local share_flags="-Xshare:auto"
+
+        if [ "$archive" != "none" ]; then
+            share_flags="-Xshare:on -XX:SharedArchiveFile=$archive"
+        fi
+
+        for i in $(seq $runs); do
+            java $share_flags -Dfitmap.repository.mode=memory -cp "$classpath" com.fitmap.function.warmup.WarmUp --first-response 2>/dev/null
+        done | sed -n 's/.*time-to-first-response-millis=\([0-9]*\).*/\1/p' | sort -n | awk -v archive="$archive" '
+            { millis[NR] = $1 }
+            END {
+                if (NR == 0) { printf "archive=%s failed, the archive must be dumped by the same JVM and class path\n", archive; exit }
+                printf "archive=%s runs=%d min=%dms median=%dms max=%dms\n", archive, NR, millis[1], millis[int((NR + 1) / 2)], millis[NR]
+            }'
+    done
+}
+
 deploy_http_function() {
 
     gcloud functions deploy $1 \
@@ -23,7 +56,18 @@ deploy_http_function() {
                             --set-env-vars=GOOGLE_CLOUD_PROJECT=$GOOGLE_CLOUD_PROJECT
 }
 
+OUTBOX_FUNCTION_URL=https://southamerica-east1-$GOOGLE_CLOUD_PROJECT.cloudfunctions.net/outbox-func-v2
+
 case $1 in
+    build-appcds)
+        run_maven_hotspot mvn -B -P appcds -DskipTests package
+        ;;
+    measure-cold-start)
+        run_maven_hotspot ./service.sh measure-cold-start-local ${2:-10}
+        ;;
+    measure-cold-start-local)
+        measure_cold_start ${2:-10}
+        ;;
     check-deploy)
         gcloud meta list-files-for-upload
         ;;
@@ -67,6 +111,39 @@ case $1 in
     deploy-event-func-v2)
         deploy_http_function event-func-v2 com.fitmap.function.v2.EventFunction
         ;;
+    deploy-outbox-func-v2)
+        # only the scheduler service account $OUTBOX_DRAIN_INVOKER may call it, both through IAM and the OIDC check of the drain route
+        gcloud functions deploy outbox-func-v2 \
+            --region=southamerica-east1 \
+            --entry-point com.fitmap.function.v2.OutboxFunction \
+            --runtime java11 \
+            --trigger-http \
+            --no-allow-unauthenticated \
+            --max-instances 1 \
+            --security-level=secure-always \
+            --set-env-vars=GOOGLE_CLOUD_PROJECT=$GOOGLE_CLOUD_PROJECT,OUTBOX_MODE=firestore,OUTBOX_DRAIN_INVOKER=$OUTBOX_DRAIN_INVOKER,OUTBOX_DRAIN_AUDIENCE=$OUTBOX_FUNCTION_URL
+        gcloud functions add-iam-policy-binding outbox-func-v2 \
+            --region=southamerica-east1 \
+            --member=serviceAccount:$OUTBOX_DRAIN_INVOKER \
+            --role=roles/cloudfunctions.invoker
+        ;;
+    create-outbox-index)
+        # a replayed message first checks for older pending messages of the same owner
+        gcloud firestore indexes composite create \
+            --collection-group=outbox_v2 \
+            --field-config=field-path=owner,order=ascending \
+            --field-config=field-path=createdAt,order=ascending
+        ;;
+    schedule-outbox-drain)
+        # replays every minute the outbox_v2 messages older than OUTBOX_DRAIN_MIN_AGE_SECONDS left behind by functions deployed with OUTBOX_MODE=firestore
+        gcloud scheduler jobs create http outbox-drain-v2 \
+            --location=southamerica-east1 \
+            --schedule="* * * * *" \
+            --http-method=POST \
+            --uri=$OUTBOX_FUNCTION_URL/api/v2/outbox/drain \
+            --oidc-service-account-email=$OUTBOX_DRAIN_INVOKER \
+            --oidc-token-audience=$OUTBOX_FUNCTION_URL
+        ;;
     *)
         echo -e "Invalid option"
         ;;
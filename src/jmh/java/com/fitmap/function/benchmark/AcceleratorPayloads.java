@@ -0,0 +1,49 @@
+package com.fitmap.function.benchmark;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitmap.function.mapper.DtoMapper;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+@Getter
+public class AcceleratorPayloads {
+
+    private static final int LOCATIONS = 200;
+
+    private final Object gymResponses;
+    private final Object locationResponses;
+    private final byte[] gymCreateBody;
+
+    @SneakyThrows
+    public AcceleratorPayloads(int events, int subscriptionPlans) {
+
+        var fixtures = new Fixtures(42);
+        var dataSet = new LocationsDataSet(42);
+
+        var addresses = dataSet
+            .searchCenters(3)
+            .stream()
+            .map(location -> fixtures.address(location.latitude, location.longitude, false))
+            .collect(Collectors.toList());
+
+        var gym = fixtures.gym(addresses, 3, events, subscriptionPlans);
+
+        gymResponses = List.of(DtoMapper.from(gym));
+
+        locationResponses = dataSet
+            .searchCenters(LOCATIONS)
+            .stream()
+            .map(location -> {
+                var address = fixtures.address(location.latitude, location.longitude, true);
+                return DtoMapper.from(address.withGym(fixtures.gym(List.of(address), 0, 0, 0)));
+            })
+            .collect(Collectors.toList());
+
+        gymCreateBody = new ObjectMapper().writeValueAsBytes(Payloads.gymCreateRequest(gym));
+    }
+
+}
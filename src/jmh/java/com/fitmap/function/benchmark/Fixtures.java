@@ -0,0 +1,178 @@
+package com.fitmap.function.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.firebase.geofire.core.GeoHash;
+import com.fitmap.function.domain.Address;
+import com.fitmap.function.domain.Contact;
+import com.fitmap.function.domain.Event;
+import com.fitmap.function.domain.Gym;
+import com.fitmap.function.domain.PersonalTrainer;
+import com.fitmap.function.domain.Student;
+import com.fitmap.function.domain.SubscriptionPlan;
+
+public class Fixtures {
+
+    private static final Date CREATED_AT = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(30));
+
+    private final Random random;
+
+    private long sequence;
+
+    public Fixtures(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public String nextId() {
+        return Long.toString(36L * 36 * 36 * 36 + sequence++, 36);
+    }
+
+    public Gym gym(List<Address> addresses, int contacts, int events, int subscriptionPlans) {
+
+        return Gym.builder()
+            .id(nextId())
+            .createdAt(CREATED_AT)
+            .updatedAt(CREATED_AT)
+            .profileName("Gym " + random.nextInt(100_000))
+            .biography(text(400))
+            .galleryPicturesUrls(urls(6))
+            .sports(ids(4))
+            .focus(ids(3))
+            .addresses(new ArrayList<>(addresses))
+            .contacts(contacts(contacts))
+            .events(events(events, addresses))
+            .subscriptionPlans(subscriptionPlans(subscriptionPlans))
+            .build();
+    }
+
+    public PersonalTrainer personalTrainer(List<Address> addresses, int contacts, int events, int subscriptionPlans) {
+
+        return PersonalTrainer.builder()
+            .id(nextId())
+            .createdAt(CREATED_AT)
+            .updatedAt(CREATED_AT)
+            .profileName("Personal " + random.nextInt(100_000))
+            .biography(text(300))
+            .galleryPicturesUrls(urls(4))
+            .sports(ids(3))
+            .fights(ids(2))
+            .focus(ids(2))
+            .busySchedule(random.nextBoolean())
+            .onlineService(random.nextBoolean())
+            .homeService(random.nextBoolean())
+            .addresses(new ArrayList<>(addresses))
+            .contacts(contacts(contacts))
+            .events(events(events, addresses))
+            .subscriptionPlans(subscriptionPlans(subscriptionPlans))
+            .build();
+    }
+
+    public Student student(List<Address> addresses, int contacts) {
+
+        return Student.builder()
+            .id(nextId())
+            .createdAt(CREATED_AT)
+            .updatedAt(CREATED_AT)
+            .profileName("Student " + random.nextInt(100_000))
+            .galleryPicturesUrls(urls(1))
+            .addresses(new ArrayList<>(addresses))
+            .contacts(contacts(contacts))
+            .build();
+    }
+
+    public Address address(double latitude, double longitude, boolean mainAddress) {
+
+        return Address.builder()
+            .id(nextId())
+            .addressText("Rua " + random.nextInt(10_000) + ", " + random.nextInt(3_000) + " - Sao Paulo, SP")
+            .mainAddress(mainAddress)
+            .latitude(Double.toString(latitude))
+            .longitude(Double.toString(longitude))
+            .geoHash(new GeoHash(latitude, longitude).getGeoHashString())
+            .build();
+    }
+
+    public List<Contact> contacts(int count) {
+
+        return IntStream.range(0, count).mapToObj(i -> Contact.builder()
+            .id(nextId())
+            .name("Contact " + i)
+            .email("contact" + random.nextInt(100_000) + "@fitmap.com")
+            .phone("+5511" + (900_000_000 + random.nextInt(99_999_999)))
+            .whatsapp(random.nextBoolean())
+            .instagram("@fitmap" + random.nextInt(100_000))
+            .mainContact(i == 0)
+            .build()).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    public List<Event> events(int count, List<Address> addresses) {
+
+        return IntStream.range(0, count).mapToObj(i -> {
+
+            var beginAt = new Date(CREATED_AT.getTime() + TimeUnit.DAYS.toMillis(random.nextInt(60)));
+
+            return Event.builder()
+                .id(nextId())
+                .name("Event " + i)
+                .pictureUrl(url())
+                .description(text(200))
+                .eventType("CLASS")
+                .beginAt(beginAt)
+                .endAt(new Date(beginAt.getTime() + TimeUnit.HOURS.toMillis(2)))
+                .eventCoach("Coach " + random.nextInt(1_000))
+                .address(addresses.isEmpty() ? null : addresses.get(random.nextInt(addresses.size())))
+                .currentEventValue(BigDecimal.valueOf(random.nextInt(20_000), 2))
+                .originalEventValue(BigDecimal.valueOf(random.nextInt(30_000), 2))
+                .showPhoneContact(random.nextBoolean())
+                .showEmailContact(random.nextBoolean())
+                .isOnline(random.nextBoolean())
+                .build();
+
+        }).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    public List<SubscriptionPlan> subscriptionPlans(int count) {
+
+        return IntStream.range(0, count).mapToObj(i -> SubscriptionPlan.builder()
+            .id(nextId())
+            .name("Plan " + i)
+            .price(BigDecimal.valueOf(5_000 + random.nextInt(50_000), 2))
+            .numberMonth(1 + random.nextInt(12))
+            .description(text(150))
+            .build()).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private List<String> urls(int count) {
+
+        return IntStream.range(0, count).mapToObj(i -> url()).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private List<String> ids(int count) {
+
+        return IntStream.range(0, count).mapToObj(i -> nextId()).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private String url() {
+
+        return "https://storage.googleapis.com/fitmap/pictures/" + nextId() + ".jpg";
+    }
+
+    private String text(int length) {
+
+        var builder = new StringBuilder(length);
+
+        while (builder.length() < length) {
+            builder.append("lorem ipsum dolor sit amet ".charAt(random.nextInt(27)));
+        }
+
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.fitmap.function.benchmark;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import com.fitmap.function.service.ReadRequestService;
+import com.fitmap.function.service.ResponseService;
+import com.fitmap.function.v2.payload.request.GymCreateRequest;
+import com.fitmap.function.warmup.LocalHttpRequest;
+import com.fitmap.function.warmup.LocalHttpResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class JacksonAcceleratorBenchmark {
+
+    private static final LocalHttpRequest REQUEST = LocalHttpRequest.get("/api/v2/gym", Collections.emptyMap());
+
+    @Param({ "none", "blackbird" })
+    public String accelerator;
+
+    @Param({ "50" })
+    public int events;
+
+    private AcceleratorPayloads payloads;
+
+    @Setup(Level.Trial)
+    public void configure() {
+
+        System.setProperty("fitmap.jackson.accelerator", accelerator);
+
+        payloads = new AcceleratorPayloads(events, 10);
+    }
+
+    @Benchmark
+    public long writeGyms() throws IOException {
+
+        return write(payloads.getGymResponses());
+    }
+
+    @Benchmark
+    public long writeLocations() throws IOException {
+
+        return write(payloads.getLocationResponses());
+    }
+
+    @Benchmark
+    public GymCreateRequest readGymCreate() {
+
+        return ReadRequestService.getBody(LocalHttpRequest.withJsonBody("POST", "/api/v2/gym", payloads.getGymCreateBody()), GymCreateRequest.class);
+    }
+
+    static long write(Object body) throws IOException {
+
+        var response = new LocalHttpResponse();
+
+        ResponseService.writeResponse(REQUEST, response, body);
+
+        return response.getBodySize();
+    }
+
+}
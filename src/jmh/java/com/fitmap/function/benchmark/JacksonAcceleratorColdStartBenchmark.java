@@ -0,0 +1,54 @@
+package com.fitmap.function.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fitmap.function.service.ReadRequestService;
+import com.fitmap.function.v2.payload.request.GymCreateRequest;
+import com.fitmap.function.warmup.LocalHttpRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class JacksonAcceleratorColdStartBenchmark {
+
+    @Param({ "none", "blackbird" })
+    public String accelerator;
+
+    private AcceleratorPayloads payloads;
+
+    @Setup(Level.Trial)
+    public void configure() {
+
+        System.setProperty("fitmap.jackson.accelerator", accelerator);
+
+        payloads = new AcceleratorPayloads(50, 10);
+    }
+
+    @Benchmark
+    public long firstRequests() throws IOException {
+
+        var request = ReadRequestService.getBody(LocalHttpRequest.withJsonBody("POST", "/api/v2/gym", payloads.getGymCreateBody()), GymCreateRequest.class);
+
+        return request.getEvents().size()
+            + JacksonAcceleratorBenchmark.write(payloads.getGymResponses())
+            + JacksonAcceleratorBenchmark.write(payloads.getLocationResponses());
+    }
+
+}
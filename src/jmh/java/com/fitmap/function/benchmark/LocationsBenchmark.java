@@ -0,0 +1,81 @@
+package com.fitmap.function.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.config.RepositoryConfig;
+import com.fitmap.function.route.RouteTable;
+import com.fitmap.function.v2.LocationsFunction;
+import com.fitmap.function.warmup.LocalHttpRequest;
+import com.fitmap.function.warmup.LocalHttpResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g", "-Dfitmap.repository.mode=memory" })
+public class LocationsBenchmark {
+
+    private static final String PATH = "/api/v2/locations";
+    private static final int SEARCH_CENTERS = 1024;
+    private static final RouteTable ROUTES = RouteTable.builder().add(LocationsFunction::routes).build();
+
+    @Param({ "1000", "10000", "100000" })
+    public int addresses;
+
+    @Param({ "0.5", "1", "2", "5" })
+    public double radiusKm;
+
+    @Param({ "PIN", "SUMMARY" })
+    public String hydration;
+
+    private List<LocalHttpRequest> requests;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void seed() {
+
+        var dataSet = new LocationsDataSet(42);
+
+        dataSet.seed(RepositoryConfig.IN_MEMORY_STORE, new Fixtures(42), addresses);
+
+        requests = dataSet
+            .searchCenters(SEARCH_CENTERS)
+            .stream()
+            .map(center -> LocalHttpRequest.get(PATH, Map.of(
+                "lat", Double.toString(center.latitude),
+                "lng", Double.toString(center.longitude),
+                "radius", Double.toString(radiusKm),
+                "hydration", hydration)))
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long search() throws IOException {
+
+        var request = requests.get(next++ & (SEARCH_CENTERS - 1));
+        var response = new LocalHttpResponse();
+
+        ROUTES.dispatch(request, response);
+
+        return response.getBodySize();
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.fitmap.function.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.firebase.geofire.GeoLocation;
+import com.fitmap.function.domain.Address;
+import com.fitmap.function.repository.memory.InMemoryStore;
+
+public class LocationsDataSet {
+
+    private static final double CENTER_LATITUDE = -23.5505;
+    private static final double CENTER_LONGITUDE = -46.6333;
+    private static final double METRO_HALF_SIDE_KM = 20;
+    private static final double HUB_SIGMA_KM = 2.5;
+    private static final double HUB_SHARE = 0.7;
+    private static final int HUBS = 6;
+    private static final double KM_PER_LATITUDE_DEGREE = 111.32;
+
+    private final Random random;
+    private final double[][] hubs;
+
+    public LocationsDataSet(long seed) {
+
+        this.random = new Random(seed);
+        this.hubs = new double[HUBS][];
+
+        for (var i = 0; i < HUBS; i++) {
+            hubs[i] = new double[] { uniformKm() * 0.6, uniformKm() * 0.6 };
+        }
+    }
+
+    public void seed(InMemoryStore store, Fixtures fixtures, int addressCount) {
+
+        store.clear();
+
+        var seeded = 0;
+
+        while (seeded < addressCount) {
+
+            var ownerAddresses = Math.min(1 + random.nextInt(2), addressCount - seeded);
+
+            var addresses = new ArrayList<Address>();
+
+            for (var i = 0; i < ownerAddresses; i++) {
+                var location = nextLocation();
+                addresses.add(fixtures.address(location.latitude, location.longitude, i == 0));
+            }
+
+            var owner = random.nextDouble();
+
+            if(owner < 0.6) {
+                store.saveGym(fixtures.gym(addresses, 2, 3, 2));
+            } else if(owner < 0.9) {
+                store.savePersonalTrainer(fixtures.personalTrainer(addresses, 2, 2, 2));
+            } else {
+                store.saveStudent(fixtures.student(addresses, 1));
+            }
+
+            seeded += ownerAddresses;
+        }
+    }
+
+    public List<GeoLocation> searchCenters(int count) {
+
+        var centers = new ArrayList<GeoLocation>(count);
+
+        for (var i = 0; i < count; i++) {
+            centers.add(nextLocation());
+        }
+
+        return centers;
+    }
+
+    private GeoLocation nextLocation() {
+
+        double northKm;
+        double eastKm;
+
+        if(random.nextDouble() < HUB_SHARE) {
+            var hub = hubs[random.nextInt(HUBS)];
+            northKm = hub[0] + random.nextGaussian() * HUB_SIGMA_KM;
+            eastKm = hub[1] + random.nextGaussian() * HUB_SIGMA_KM;
+        } else {
+            northKm = uniformKm();
+            eastKm = uniformKm();
+        }
+
+        var latitude = CENTER_LATITUDE + northKm / KM_PER_LATITUDE_DEGREE;
+        var longitude = CENTER_LONGITUDE + eastKm / (KM_PER_LATITUDE_DEGREE * Math.cos(Math.toRadians(CENTER_LATITUDE)));
+
+        return new GeoLocation(latitude, longitude);
+    }
+
+    private double uniformKm() {
+
+        return (random.nextDouble() * 2 - 1) * METRO_HALF_SIDE_KM;
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.fitmap.function.benchmark;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.domain.Address;
+import com.fitmap.function.domain.Contact;
+import com.fitmap.function.domain.Event;
+import com.fitmap.function.domain.Gym;
+import com.fitmap.function.domain.PersonalTrainer;
+import com.fitmap.function.domain.SubscriptionPlan;
+import com.fitmap.function.v2.payload.request.AddressRequest;
+import com.fitmap.function.v2.payload.request.ContactRequest;
+import com.fitmap.function.v2.payload.request.EventCreateRequest;
+import com.fitmap.function.v2.payload.request.GymCreateRequest;
+import com.fitmap.function.v2.payload.request.PersonalTrainerCreateRequest;
+import com.fitmap.function.v2.payload.request.SubscriptionPlanCreateRequest;
+
+public class Payloads {
+
+    private Payloads() {
+    }
+
+    public static GymCreateRequest gymCreateRequest(Gym gym) {
+
+        return GymCreateRequest.builder()
+            .profileName(gym.getProfileName())
+            .biography(gym.getBiography())
+            .contact(contactRequest(gym.getContacts().get(0)))
+            .address(addressRequest(gym.getAddresses().get(0)))
+            .events(eventCreateRequests(gym.getEvents()))
+            .subscriptionPlans(subscriptionPlanCreateRequests(gym.getSubscriptionPlans()))
+            .sports(gym.getSports())
+            .focus(gym.getFocus())
+            .galleryPicturesUrls(gym.getGalleryPicturesUrls())
+            .build();
+    }
+
+    public static PersonalTrainerCreateRequest personalTrainerCreateRequest(PersonalTrainer personalTrainer) {
+
+        return PersonalTrainerCreateRequest.builder()
+            .profileName(personalTrainer.getProfileName())
+            .biography(personalTrainer.getBiography())
+            .contact(contactRequest(personalTrainer.getContacts().get(0)))
+            .address(addressRequest(personalTrainer.getAddresses().get(0)))
+            .events(eventCreateRequests(personalTrainer.getEvents()))
+            .subscriptionPlans(subscriptionPlanCreateRequests(personalTrainer.getSubscriptionPlans()))
+            .sports(personalTrainer.getSports())
+            .fights(personalTrainer.getFights())
+            .focus(personalTrainer.getFocus())
+            .galleryPicturesUrls(personalTrainer.getGalleryPicturesUrls())
+            .busySchedule(personalTrainer.getBusySchedule())
+            .onlineService(personalTrainer.getOnlineService())
+            .homeService(personalTrainer.getHomeService())
+            .build();
+    }
+
+    public static List<EventCreateRequest> eventCreateRequests(List<Event> events) {
+
+        return events.stream().map(event -> EventCreateRequest.builder()
+            .name(event.getName())
+            .pictureUrl(event.getPictureUrl())
+            .description(event.getDescription())
+            .eventType(event.getEventType())
+            .beginAt(event.getBeginAt())
+            .endAt(event.getEndAt())
+            .eventCoach(event.getEventCoach())
+            .address(event.getAddress() == null ? null : addressRequest(event.getAddress()))
+            .currentEventValue(event.getCurrentEventValue())
+            .originalEventValue(event.getOriginalEventValue())
+            .showPhoneContact(event.getShowPhoneContact())
+            .showEmailContact(event.getShowEmailContact())
+            .isOnline(event.getIsOnline())
+            .build()).collect(Collectors.toList());
+    }
+
+    public static List<SubscriptionPlanCreateRequest> subscriptionPlanCreateRequests(List<SubscriptionPlan> subscriptionPlans) {
+
+        return subscriptionPlans.stream().map(subscriptionPlan -> SubscriptionPlanCreateRequest.builder()
+            .name(subscriptionPlan.getName())
+            .price(subscriptionPlan.getPrice())
+            .numberMonth(subscriptionPlan.getNumberMonth())
+            .description(subscriptionPlan.getDescription())
+            .build()).collect(Collectors.toList());
+    }
+
+    private static ContactRequest contactRequest(Contact contact) {
+
+        return ContactRequest.builder()
+            .name(contact.getName())
+            .email(contact.getEmail())
+            .phone(contact.getPhone())
+            .whatsapp(contact.getWhatsapp())
+            .instagram(contact.getInstagram())
+            .build();
+    }
+
+    private static AddressRequest addressRequest(Address address) {
+
+        return AddressRequest.builder()
+            .addressText(address.getAddressText())
+            .latitude(address.getLatitude())
+            .longitude(address.getLongitude())
+            .build();
+    }
+
+}
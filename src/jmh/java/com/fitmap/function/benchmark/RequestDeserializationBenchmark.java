@@ -0,0 +1,86 @@
+package com.fitmap.function.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.config.ObjectMapperConfig;
+import com.fitmap.function.service.ReadRequestService;
+import com.fitmap.function.v2.payload.request.EventCreateRequest;
+import com.fitmap.function.v2.payload.request.GymCreateRequest;
+import com.fitmap.function.v2.payload.request.PersonalTrainerCreateRequest;
+import com.fitmap.function.warmup.LocalHttpRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import lombok.SneakyThrows;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class RequestDeserializationBenchmark {
+
+    @Param({ "5", "50" })
+    public int events;
+
+    @Param({ "10" })
+    public int subscriptionPlans;
+
+    private byte[] gymCreateBody;
+    private byte[] personalTrainerCreateBody;
+    private byte[] eventsCreateBody;
+
+    @Setup(Level.Trial)
+    @SneakyThrows
+    public void buildPayloads() {
+
+        var fixtures = new Fixtures(42);
+
+        var addresses = new LocationsDataSet(42)
+            .searchCenters(3)
+            .stream()
+            .map(location -> fixtures.address(location.latitude, location.longitude, false))
+            .collect(Collectors.toList());
+
+        var gym = fixtures.gym(addresses, 1, events, subscriptionPlans);
+        var personalTrainer = fixtures.personalTrainer(addresses, 1, events, subscriptionPlans);
+
+        var mapper = ObjectMapperConfig.OBJECT_MAPPER;
+
+        gymCreateBody = mapper.writeValueAsBytes(Payloads.gymCreateRequest(gym));
+        personalTrainerCreateBody = mapper.writeValueAsBytes(Payloads.personalTrainerCreateRequest(personalTrainer));
+        eventsCreateBody = mapper.writeValueAsBytes(Payloads.eventCreateRequests(gym.getEvents()));
+    }
+
+    @Benchmark
+    public GymCreateRequest gymCreate() {
+
+        return ReadRequestService.getBody(LocalHttpRequest.withJsonBody("POST", "/api/v2/gym", gymCreateBody), GymCreateRequest.class);
+    }
+
+    @Benchmark
+    public PersonalTrainerCreateRequest personalTrainerCreate() {
+
+        return ReadRequestService.getBody(LocalHttpRequest.withJsonBody("POST", "/api/v2/personal-trainer", personalTrainerCreateBody), PersonalTrainerCreateRequest.class);
+    }
+
+    @Benchmark
+    public EventCreateRequest[] eventsCreate() {
+
+        return ReadRequestService.getBody(LocalHttpRequest.withJsonBody("POST", "/api/v2/gym/events", eventsCreateBody), EventCreateRequest[].class);
+    }
+
+}
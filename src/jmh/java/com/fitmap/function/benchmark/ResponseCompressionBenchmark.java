@@ -0,0 +1,72 @@
+package com.fitmap.function.benchmark;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fitmap.function.service.ResponseService;
+import com.fitmap.function.warmup.LocalHttpRequest;
+import com.fitmap.function.warmup.LocalHttpResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ResponseCompressionBenchmark {
+
+    @Param({ "identity", "gzip", "deflate" })
+    public String acceptEncoding;
+
+    @Param({ "1", "6", "9" })
+    public int level;
+
+    private AcceleratorPayloads payloads;
+    private LocalHttpRequest request;
+
+    @Setup(Level.Trial)
+    public void configure() {
+
+        System.setProperty("fitmap.compression.level", Integer.toString(level));
+
+        payloads = new AcceleratorPayloads(50, 10);
+        request = LocalHttpRequest.get("/api/v2/locations", Collections.emptyMap(), Map.of("Accept-Encoding", acceptEncoding));
+    }
+
+    @Benchmark
+    public long gyms() throws IOException {
+
+        return write(payloads.getGymResponses());
+    }
+
+    @Benchmark
+    public long locations() throws IOException {
+
+        return write(payloads.getLocationResponses());
+    }
+
+    private long write(Object body) throws IOException {
+
+        var response = new LocalHttpResponse();
+
+        ResponseService.writeResponse(request, response, body);
+
+        return response.getBodySize();
+    }
+
+}
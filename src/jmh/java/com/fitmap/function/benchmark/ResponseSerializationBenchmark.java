@@ -0,0 +1,104 @@
+package com.fitmap.function.benchmark;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.mapper.DtoMapper;
+import com.fitmap.function.service.ResponseService;
+import com.fitmap.function.warmup.LocalHttpRequest;
+import com.fitmap.function.warmup.LocalHttpResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    private static final int LOCATIONS = 200;
+    private static final LocalHttpRequest REQUEST = LocalHttpRequest.get("/api/v2/gym", Collections.emptyMap());
+
+    @Param({ "5", "50" })
+    public int events;
+
+    @Param({ "10" })
+    public int subscriptionPlans;
+
+    private Object gymResponses;
+    private Object personalTrainerResponses;
+    private Object locationResponses;
+
+    @Setup(Level.Trial)
+    public void buildPayloads() {
+
+        var fixtures = new Fixtures(42);
+        var dataSet = new LocationsDataSet(42);
+
+        var addresses = dataSet
+            .searchCenters(3)
+            .stream()
+            .map(location -> fixtures.address(location.latitude, location.longitude, false))
+            .collect(Collectors.toList());
+
+        var gym = fixtures.gym(addresses, 3, events, subscriptionPlans);
+        var personalTrainer = fixtures.personalTrainer(addresses, 3, events, subscriptionPlans);
+
+        gymResponses = List.of(DtoMapper.from(gym));
+        personalTrainerResponses = List.of(DtoMapper.from(personalTrainer));
+
+        locationResponses = dataSet
+            .searchCenters(LOCATIONS)
+            .stream()
+            .map(location -> {
+                var address = fixtures.address(location.latitude, location.longitude, true);
+                var owner = fixtures.gym(List.of(address), 0, 0, 0);
+                return DtoMapper.from(address.withGym(owner));
+            })
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long gyms() throws IOException {
+
+        return write(gymResponses);
+    }
+
+    @Benchmark
+    public long personalTrainers() throws IOException {
+
+        return write(personalTrainerResponses);
+    }
+
+    @Benchmark
+    public long locations() throws IOException {
+
+        return write(locationResponses);
+    }
+
+    private static long write(Object body) throws IOException {
+
+        var response = new LocalHttpResponse();
+
+        ResponseService.writeResponse(REQUEST, response, body);
+
+        return response.getBodySize();
+    }
+
+}
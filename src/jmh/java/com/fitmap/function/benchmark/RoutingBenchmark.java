@@ -0,0 +1,79 @@
+package com.fitmap.function.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fitmap.function.route.Handler;
+import com.fitmap.function.route.Middleware;
+import com.fitmap.function.route.RouteTable;
+import com.fitmap.function.v2.FitMapFunction;
+import com.fitmap.function.warmup.LocalHttpRequest;
+import com.fitmap.function.warmup.LocalHttpResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsAppend = { "-Dfitmap.repository.mode=memory" })
+public class RoutingBenchmark {
+
+    private static final Handler NO_OP = (request, response) -> { };
+
+    @Param({
+        "GET /api/v2/gym",
+        "POST /api/v2/gym",
+        "DELETE /api/v2/personal-trainer/subscription-plans",
+        "GET /api/v2/locations",
+        "POST /api/v2/send-sign-up-verify-email"
+    })
+    public String route;
+
+    private RouteTable routes;
+    private LocalHttpRequest request;
+
+    @Setup(Level.Trial)
+    public void buildRoutes() {
+
+        var builder = RouteTable.builder();
+
+        RouteTable.builder()
+            .add(FitMapFunction::routes)
+            .build()
+            .getRoutes()
+            .forEach(r -> builder.route(r.getMethod(), r.getPath(), NO_OP, r.getMiddlewares().toArray(Middleware[]::new)));
+
+        routes = builder.build();
+
+        var methodAndPath = route.split(" ");
+
+        request = new LocalHttpRequest(methodAndPath[0], methodAndPath[1], Map.of(), Map.of(
+            "Content-Type", "application/json",
+            "User_id", "benchmark",
+            "User_id_token", "benchmark"), null);
+    }
+
+    @Benchmark
+    public LocalHttpResponse dispatch() {
+
+        var response = new LocalHttpResponse();
+
+        routes.dispatch(request, response);
+
+        return response;
+    }
+
+}
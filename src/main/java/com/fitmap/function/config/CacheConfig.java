@@ -0,0 +1,23 @@
+package com.fitmap.function.config;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CacheConfig {
+
+    public static final Duration CATALOG_CACHE_TTL;
+    public static final boolean CATALOG_REPLICA_ENABLED;
+
+    static {
+
+        CATALOG_CACHE_TTL = Duration.ofSeconds(NumberUtils.toLong(System.getenv("CATALOG_CACHE_TTL_SECONDS"), 300));
+        CATALOG_REPLICA_ENABLED = BooleanUtils.toBooleanDefaultIfNull(BooleanUtils.toBooleanObject(System.getenv("CATALOG_REPLICA_ENABLED")), true);
+    }
+
+}
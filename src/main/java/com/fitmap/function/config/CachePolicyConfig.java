@@ -0,0 +1,40 @@
+package com.fitmap.function.config;
+
+import java.util.Map;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CachePolicyConfig {
+
+    public static final String NO_STORE = "no-store";
+    public static final String PRIVATE_REVALIDATE = "private, no-cache";
+
+    public static final String CATALOG_CACHE_CONTROL;
+    public static final String LOCATIONS_CACHE_CONTROL;
+    public static final Map<String, String> GET_CACHE_CONTROL_PER_PATH;
+
+    static {
+
+        var catalogMaxAge = NumberUtils.toLong(System.getenv("CATALOG_CACHE_CONTROL_MAX_AGE_SECONDS"), 300);
+        var catalogSharedMaxAge = NumberUtils.toLong(System.getenv("CATALOG_CACHE_CONTROL_S_MAXAGE_SECONDS"), 600);
+        var catalogStaleWhileRevalidate = NumberUtils.toLong(System.getenv("CATALOG_CACHE_CONTROL_STALE_WHILE_REVALIDATE_SECONDS"), 3600);
+        var locationsMaxAge = NumberUtils.toLong(System.getenv("LOCATIONS_CACHE_CONTROL_MAX_AGE_SECONDS"), 60);
+
+        CATALOG_CACHE_CONTROL = "public, max-age=" + catalogMaxAge + ", s-maxage=" + catalogSharedMaxAge + ", stale-while-revalidate=" + catalogStaleWhileRevalidate;
+        LOCATIONS_CACHE_CONTROL = "private, max-age=" + locationsMaxAge;
+
+        GET_CACHE_CONTROL_PER_PATH = Map.of(
+            "/api/v2/sport", CATALOG_CACHE_CONTROL,
+            "/api/v2/focus", CATALOG_CACHE_CONTROL,
+            "/api/v2/fight", CATALOG_CACHE_CONTROL,
+            "/api/v2/gym", PRIVATE_REVALIDATE,
+            "/api/v2/personal-trainer", PRIVATE_REVALIDATE,
+            "/api/v2/student", PRIVATE_REVALIDATE,
+            "/api/v2/locations", LOCATIONS_CACHE_CONTROL);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.fitmap.function.config;
+
+import java.util.zip.Deflater;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CompressionConfig {
+
+    public static final boolean RESPONSE_COMPRESSION_ENABLED;
+    public static final int RESPONSE_COMPRESSION_MIN_SIZE_BYTES;
+    public static final int RESPONSE_COMPRESSION_LEVEL;
+
+    static {
+
+        RESPONSE_COMPRESSION_ENABLED = BooleanUtils.toBooleanDefaultIfNull(BooleanUtils.toBooleanObject(System.getenv("RESPONSE_COMPRESSION_ENABLED")), true);
+        RESPONSE_COMPRESSION_MIN_SIZE_BYTES = Math.max(0, NumberUtils.toInt(StringUtils.firstNonBlank(System.getProperty("fitmap.compression.min.size.bytes"), System.getenv("RESPONSE_COMPRESSION_MIN_SIZE_BYTES")), 1024));
+        RESPONSE_COMPRESSION_LEVEL = Math.min(Deflater.BEST_COMPRESSION, Math.max(Deflater.BEST_SPEED, NumberUtils.toInt(StringUtils.firstNonBlank(System.getProperty("fitmap.compression.level"), System.getenv("RESPONSE_COMPRESSION_LEVEL")), 6)));
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.fitmap.function.config;
+
+import java.util.Locale;
+
+import com.fitmap.function.domain.constants.HydrationLevel;
+
+import org.apache.commons.lang3.EnumUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LocationsConfig {
+
+    public static final HydrationLevel DEFAULT_HYDRATION_LEVEL;
+
+    static {
+
+        var defaultHydration = StringUtils.upperCase(System.getenv("LOCATIONS_DEFAULT_HYDRATION"), Locale.ROOT);
+
+        DEFAULT_HYDRATION_LEVEL = EnumUtils.getEnum(HydrationLevel.class, defaultHydration, HydrationLevel.FULL);
+    }
+
+}
@@ -4,23 +4,44 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.ZonedDateTimeSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.fitmap.function.v2.payload.PayloadTypes;
+
+import org.apache.commons.lang3.StringUtils;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.java.Log;
 
+@Log
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ObjectMapperConfig {
 
+    public static final String ACCELERATOR_NONE = "none";
+    public static final String ACCELERATOR_BLACKBIRD = "blackbird";
+
     public static final DateTimeFormatter DEFAULT_DATE_TIME_FORMATTER;
+    public static final String ACCELERATOR;
     public static final ObjectMapper OBJECT_MAPPER;
+    public static final ObjectWriter RESPONSE_WRITER;
+
+    private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
 
     static {
 
@@ -30,6 +51,39 @@ public class ObjectMapperConfig {
 
         configDateTimeModule(OBJECT_MAPPER);
 
+        ACCELERATOR = StringUtils
+            .firstNonBlank(System.getProperty("fitmap.jackson.accelerator"), System.getenv("JACKSON_ACCELERATOR"), ACCELERATOR_NONE)
+            .toLowerCase(Locale.ROOT);
+
+        configAccelerator(OBJECT_MAPPER, ACCELERATOR);
+
+        RESPONSE_WRITER = OBJECT_MAPPER.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        PayloadTypes.REQUEST_TYPES.forEach(ObjectMapperConfig::readerFor);
+        PayloadTypes.RESPONSE_TYPES.forEach(ObjectMapperConfig::writerFor);
+    }
+
+    public static ObjectReader readerFor(Class<?> clazz) {
+
+        return READERS.computeIfAbsent(clazz, OBJECT_MAPPER::readerFor);
+    }
+
+    public static ObjectWriter writerFor(Class<?> clazz) {
+
+        return WRITERS.computeIfAbsent(clazz, RESPONSE_WRITER::forType);
+    }
+
+    private static void configAccelerator(ObjectMapper objM, String accelerator) {
+
+        switch (accelerator) {
+            case ACCELERATOR_BLACKBIRD:
+                objM.registerModule(new BlackbirdModule());
+                break;
+            case ACCELERATOR_NONE:
+                break;
+            default:
+                log.log(Level.WARNING, "Unknown JACKSON_ACCELERATOR, " + accelerator + ", using reflection based access.");
+        }
     }
 
     private static void configDateTimeModule(ObjectMapper objM) {
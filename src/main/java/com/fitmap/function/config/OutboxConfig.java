@@ -0,0 +1,58 @@
+package com.fitmap.function.config;
+
+import java.time.Duration;
+
+import com.fitmap.function.outbox.FirestoreOutbox;
+import com.fitmap.function.outbox.LocalOutbox;
+import com.fitmap.function.outbox.Outbox;
+import com.fitmap.function.service.OutboxService;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class OutboxConfig {
+
+    public static final String SYNC_MODE = "sync";
+    public static final String LOCAL_MODE = "local";
+    public static final String FIRESTORE_MODE = "firestore";
+
+    public static final String OUTBOX_MODE;
+    public static final int MAX_ATTEMPTS;
+    public static final Duration BACKOFF;
+    public static final Duration DRAIN_MIN_AGE;
+    public static final int DRAIN_LIMIT;
+
+    public static final Outbox OUTBOX;
+
+    static {
+
+        OUTBOX_MODE = StringUtils.firstNonBlank(System.getProperty("fitmap.outbox.mode"), System.getenv("OUTBOX_MODE"), SYNC_MODE);
+        MAX_ATTEMPTS = NumberUtils.toInt(System.getenv("OUTBOX_MAX_ATTEMPTS"), 5);
+        BACKOFF = Duration.ofMillis(NumberUtils.toLong(System.getenv("OUTBOX_BACKOFF_MILLIS"), 200));
+        DRAIN_MIN_AGE = Duration.ofSeconds(NumberUtils.toLong(System.getenv("OUTBOX_DRAIN_MIN_AGE_SECONDS"), 60));
+        DRAIN_LIMIT = NumberUtils.toInt(System.getenv("OUTBOX_DRAIN_LIMIT"), 100);
+
+        OUTBOX = createOutbox(OUTBOX_MODE);
+    }
+
+    // null keeps the copy writes in the owner's batch
+    // local is best-effort: its queue lives in memory and Cloud Functions may throttle or recycle the instance once
+    // the response is sent, so copies can be lost; only firestore persists the messages for the drain to replay
+    static Outbox createOutbox(String mode) {
+
+        if(LOCAL_MODE.equalsIgnoreCase(mode)) {
+            return new LocalOutbox(OutboxService::deliver, MAX_ATTEMPTS, BACKOFF);
+        }
+
+        if(FIRESTORE_MODE.equalsIgnoreCase(mode)) {
+            return new FirestoreOutbox(FirestoreConfig.FIRESTORE, OutboxService::addWrites, MAX_ATTEMPTS, BACKOFF, DRAIN_MIN_AGE);
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.fitmap.function.config;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class OutboxDrainConfig {
+
+    public static final String INVOKER;
+    public static final String AUDIENCE;
+
+    static {
+
+        INVOKER = System.getenv("OUTBOX_DRAIN_INVOKER");
+        AUDIENCE = System.getenv("OUTBOX_DRAIN_AUDIENCE");
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.fitmap.function.config;
+
+import java.time.Duration;
+
+import com.fitmap.function.domain.Fight;
+import com.fitmap.function.domain.Focus;
+import com.fitmap.function.domain.Sport;
+import com.fitmap.function.repository.AddressRepository;
+import com.fitmap.function.repository.CatalogRepository;
+import com.fitmap.function.repository.ContactRepository;
+import com.fitmap.function.repository.EventRepository;
+import com.fitmap.function.repository.GymRepository;
+import com.fitmap.function.repository.PersonalTrainerRepository;
+import com.fitmap.function.repository.StudentRepository;
+import com.fitmap.function.repository.SubscriptionPlanRepository;
+import com.fitmap.function.repository.firestore.FirestoreAddressRepository;
+import com.fitmap.function.repository.firestore.FirestoreCatalogRepository;
+import com.fitmap.function.repository.firestore.FirestoreContactRepository;
+import com.fitmap.function.repository.firestore.FirestoreEventRepository;
+import com.fitmap.function.repository.firestore.FirestoreGymRepository;
+import com.fitmap.function.repository.firestore.FirestorePersonalTrainerRepository;
+import com.fitmap.function.repository.firestore.FirestoreStudentRepository;
+import com.fitmap.function.repository.firestore.FirestoreSubscriptionPlanRepository;
+import com.fitmap.function.repository.memory.InMemoryAddressRepository;
+import com.fitmap.function.repository.memory.InMemoryCatalogRepository;
+import com.fitmap.function.repository.memory.InMemoryContactRepository;
+import com.fitmap.function.repository.memory.InMemoryEventRepository;
+import com.fitmap.function.repository.memory.InMemoryGymRepository;
+import com.fitmap.function.repository.memory.InMemoryPersonalTrainerRepository;
+import com.fitmap.function.repository.memory.InMemoryStore;
+import com.fitmap.function.repository.memory.InMemoryStudentRepository;
+import com.fitmap.function.repository.memory.InMemorySubscriptionPlanRepository;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RepositoryConfig {
+
+    public static final String FIRESTORE_MODE = "firestore";
+    public static final String MEMORY_MODE = "memory";
+
+    public static final String REPOSITORY_MODE;
+    public static final InMemoryStore IN_MEMORY_STORE;
+
+    public static final GymRepository GYM_REPOSITORY;
+    public static final PersonalTrainerRepository PERSONAL_TRAINER_REPOSITORY;
+    public static final StudentRepository STUDENT_REPOSITORY;
+    public static final AddressRepository ADDRESS_REPOSITORY;
+    public static final ContactRepository CONTACT_REPOSITORY;
+    public static final EventRepository EVENT_REPOSITORY;
+    public static final SubscriptionPlanRepository SUBSCRIPTION_PLAN_REPOSITORY;
+    public static final CatalogRepository<Sport> SPORT_REPOSITORY;
+    public static final CatalogRepository<Focus> FOCUS_REPOSITORY;
+    public static final CatalogRepository<Fight> FIGHT_REPOSITORY;
+
+    static {
+
+        REPOSITORY_MODE = StringUtils.firstNonBlank(System.getProperty("fitmap.repository.mode"), System.getenv("REPOSITORY_MODE"), FIRESTORE_MODE);
+
+        if(MEMORY_MODE.equalsIgnoreCase(REPOSITORY_MODE)) {
+
+            var latencyMillis = StringUtils.firstNonBlank(System.getProperty("fitmap.repository.latency.millis"), System.getenv("MEMORY_REPOSITORY_LATENCY_MILLIS"));
+
+            var store = new InMemoryStore(Duration.ofMillis(NumberUtils.toLong(latencyMillis, 0)));
+
+            IN_MEMORY_STORE = store;
+            GYM_REPOSITORY = new InMemoryGymRepository(store);
+            PERSONAL_TRAINER_REPOSITORY = new InMemoryPersonalTrainerRepository(store);
+            STUDENT_REPOSITORY = new InMemoryStudentRepository(store);
+            ADDRESS_REPOSITORY = new InMemoryAddressRepository(store);
+            CONTACT_REPOSITORY = new InMemoryContactRepository(store);
+            EVENT_REPOSITORY = new InMemoryEventRepository(store);
+            SUBSCRIPTION_PLAN_REPOSITORY = new InMemorySubscriptionPlanRepository(store);
+            SPORT_REPOSITORY = new InMemoryCatalogRepository<>(store, Sport.SPORTS_COLLECTION, Sport.class);
+            FOCUS_REPOSITORY = new InMemoryCatalogRepository<>(store, Focus.FOCUS_COLLECTION, Focus.class);
+            FIGHT_REPOSITORY = new InMemoryCatalogRepository<>(store, Fight.FIGHTS_COLLECTION, Fight.class);
+
+        } else {
+
+            var db = FirestoreConfig.FIRESTORE;
+
+            IN_MEMORY_STORE = null;
+            GYM_REPOSITORY = new FirestoreGymRepository(db);
+            PERSONAL_TRAINER_REPOSITORY = new FirestorePersonalTrainerRepository(db);
+            STUDENT_REPOSITORY = new FirestoreStudentRepository(db);
+            ADDRESS_REPOSITORY = new FirestoreAddressRepository(db);
+            CONTACT_REPOSITORY = new FirestoreContactRepository(db);
+            EVENT_REPOSITORY = new FirestoreEventRepository(db);
+            SUBSCRIPTION_PLAN_REPOSITORY = new FirestoreSubscriptionPlanRepository(db);
+            SPORT_REPOSITORY = new FirestoreCatalogRepository<>(db, Sport.SPORTS_COLLECTION, Sport.class);
+            FOCUS_REPOSITORY = new FirestoreCatalogRepository<>(db, Focus.FOCUS_COLLECTION, Focus.class);
+            FIGHT_REPOSITORY = new FirestoreCatalogRepository<>(db, Fight.FIGHTS_COLLECTION, Fight.class);
+        }
+    }
+
+}
@@ -1,10 +1,19 @@
 package com.fitmap.function.config;
 
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import com.sendgrid.SendGrid;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.java.Log;
 
+@Log
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class SendGridConfig {
 
@@ -23,7 +32,15 @@ public class SendGridConfig {
         RESET_PASSWORD_TEMPLATE_ID = System.getenv("RESET_PASSWORD_TEMPLATE_ID");
         SENDGRID_FROM_NAME = System.getenv("SENDGRID_FROM_NAME");
         SENDGRID_FROM_EMAIL = System.getenv("SENDGRID_FROM_EMAIL");
-        ACCOUNT_ALERTS_UNSUBSCRIBE_GROUP_ID = Integer.parseInt(System.getenv("ACCOUNT_ALERTS_UNSUBSCRIBE_GROUP_ID"));
+        ACCOUNT_ALERTS_UNSUBSCRIBE_GROUP_ID = NumberUtils.toInt(System.getenv("ACCOUNT_ALERTS_UNSUBSCRIBE_GROUP_ID"));
+
+        var missing = Stream.of("SENDGRID_API_KEY", "EMAIL_VERIFY_TEMPLATE_ID", "RESET_PASSWORD_TEMPLATE_ID", "SENDGRID_FROM_NAME", "SENDGRID_FROM_EMAIL", "ACCOUNT_ALERTS_UNSUBSCRIBE_GROUP_ID")
+            .filter(name -> StringUtils.isBlank(System.getenv(name)))
+            .collect(Collectors.toList());
+
+        if(!missing.isEmpty()) {
+            log.log(Level.WARNING, "SendGrid is not fully configured, missing env vars " + missing + ".");
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.fitmap.function.config;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class WarmUpConfig {
+
+    public static final boolean WARM_UP_ENABLED;
+    public static final Duration WARM_UP_BUDGET;
+    public static final String WARM_UP_COLLECTION = "warm_up_v2";
+
+    static {
+
+        WARM_UP_ENABLED = BooleanUtils.toBoolean(StringUtils.firstNonBlank(System.getProperty("fitmap.warm.up.enabled"), System.getenv("WARM_UP_ENABLED")));
+        WARM_UP_BUDGET = Duration.ofMillis(NumberUtils.toLong(StringUtils.firstNonBlank(System.getProperty("fitmap.warm.up.budget.millis"), System.getenv("WARM_UP_BUDGET_MILLIS")), 1500));
+    }
+
+}
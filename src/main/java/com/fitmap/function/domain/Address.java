@@ -26,7 +26,7 @@ import lombok.With;
 @Getter
 @Setter
 @ToString
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true, value = { "is_main_address" })
@@ -45,6 +45,7 @@ public class Address {
     public static final String PERSONAL_TRAINER = "personalTrainer";
     public static final String STUDENT = "student";
     public static final String EVENTS = "events";
+    public static final String PIN = "pin";
 
     @NotBlank
     private String id;
@@ -72,6 +73,9 @@ public class Address {
     @With
     private List<Event> events;
 
+    @With
+    private Pin pin;
+
     public void addEvents(List<Event> events) {
 
         var newEvents = Objects.requireNonNullElse(events, new ArrayList<Event>());
@@ -0,0 +1,190 @@
+package com.fitmap.function.domain;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(value = SnakeCaseStrategy.class)
+@JsonInclude(value = Include.NON_ABSENT)
+public class Pin {
+
+    public static final int CURRENT_VERSION = 1;
+    public static final String PROFILE_NAME = "profileName";
+    public static final String PICTURE_URL = "pictureUrl";
+    public static final String SPORTS = "sports";
+    public static final String FOCUS = "focus";
+    public static final String FIGHTS = "fights";
+    public static final String ONLINE_SERVICE = "onlineService";
+    public static final String HOME_SERVICE = "homeService";
+    public static final String UPDATED_AT = "updatedAt";
+
+    private static final Map<String, String> GYM_PIN_FIELDS = Map.of(
+        Gym.PROFILE_NAME, PROFILE_NAME,
+        Gym.SPORTS, SPORTS,
+        Gym.FOCUS, FOCUS,
+        Gym.UPDATED_AT, UPDATED_AT);
+
+    private static final Map<String, String> PERSONAL_TRAINER_PIN_FIELDS = Map.of(
+        PersonalTrainer.PROFILE_NAME, PROFILE_NAME,
+        PersonalTrainer.SPORTS, SPORTS,
+        PersonalTrainer.FOCUS, FOCUS,
+        PersonalTrainer.FIGHTS, FIGHTS,
+        PersonalTrainer.ONLINE_SERVICE, ONLINE_SERVICE,
+        PersonalTrainer.HOME_SERVICE, HOME_SERVICE,
+        PersonalTrainer.UPDATED_AT, UPDATED_AT);
+
+    private static final Map<String, String> STUDENT_PIN_FIELDS = Map.of(
+        Student.PROFILE_NAME, PROFILE_NAME,
+        Student.UPDATED_AT, UPDATED_AT);
+
+    private static final Map<String, Map<String, String>> PIN_FIELDS_PER_EMBEDDED_OWNER = Map.of(
+        Address.GYM, GYM_PIN_FIELDS,
+        Address.PERSONAL_TRAINER, PERSONAL_TRAINER_PIN_FIELDS,
+        Address.STUDENT, STUDENT_PIN_FIELDS);
+
+    private int version;
+
+    private UserType ownerType;
+
+    private String ownerId;
+
+    private String profileName;
+
+    private String pictureUrl;
+
+    private List<String> sports;
+
+    private List<String> focus;
+
+    private List<String> fights;
+
+    private Boolean onlineService;
+
+    private Boolean homeService;
+
+    private Date updatedAt;
+
+    public static boolean isCurrent(Pin pin) {
+
+        return pin != null && pin.getVersion() == CURRENT_VERSION;
+    }
+
+    public static Pin from(Gym gym) {
+
+        if(gym == null) {
+            return null;
+        }
+
+        return Pin
+            .builder()
+            .version(CURRENT_VERSION)
+            .ownerType(UserType.GYM)
+            .ownerId(gym.getId())
+            .profileName(gym.getProfileName())
+            .pictureUrl(firstOrNull(gym.getGalleryPicturesUrls()))
+            .sports(copy(gym.getSports()))
+            .focus(copy(gym.getFocus()))
+            .updatedAt(gym.getUpdatedAt())
+            .build();
+    }
+
+    public static Pin from(PersonalTrainer personalTrainer) {
+
+        if(personalTrainer == null) {
+            return null;
+        }
+
+        return Pin
+            .builder()
+            .version(CURRENT_VERSION)
+            .ownerType(UserType.PERSONAL_TRAINER)
+            .ownerId(personalTrainer.getId())
+            .profileName(personalTrainer.getProfileName())
+            .pictureUrl(firstOrNull(personalTrainer.getGalleryPicturesUrls()))
+            .sports(copy(personalTrainer.getSports()))
+            .focus(copy(personalTrainer.getFocus()))
+            .fights(copy(personalTrainer.getFights()))
+            .onlineService(personalTrainer.getOnlineService())
+            .homeService(personalTrainer.getHomeService())
+            .updatedAt(personalTrainer.getUpdatedAt())
+            .build();
+    }
+
+    public static Pin from(Student student) {
+
+        if(student == null) {
+            return null;
+        }
+
+        return Pin
+            .builder()
+            .version(CURRENT_VERSION)
+            .ownerType(UserType.STUDENT)
+            .ownerId(student.getId())
+            .profileName(student.getProfileName())
+            .pictureUrl(firstOrNull(student.getGalleryPicturesUrls()))
+            .updatedAt(student.getUpdatedAt())
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> changesFrom(String embeddedField, Map<String, Object> ownerProps) {
+
+        var changes = new HashMap<String, Object>();
+
+        var pinFields = PIN_FIELDS_PER_EMBEDDED_OWNER.get(embeddedField);
+
+        if(pinFields == null) {
+            return changes;
+        }
+
+        ownerProps.forEach((field, value) -> {
+
+            if(pinFields.containsKey(field)) {
+                changes.put(pinFields.get(field), value);
+            }
+        });
+
+        if(ownerProps.containsKey(PersonalTrainer.GALLERY_PICTURES_URLS)) {
+            changes.put(PICTURE_URL, firstOrNull((List<String>) ownerProps.get(PersonalTrainer.GALLERY_PICTURES_URLS)));
+        }
+
+        return changes;
+    }
+
+    private static String firstOrNull(List<String> values) {
+
+        return CollectionUtils.isEmpty(values) ? null : values.get(0);
+    }
+
+    private static List<String> copy(List<String> values) {
+
+        return new ArrayList<>(ListUtils.emptyIfNull(values));
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.fitmap.function.domain.constants;
+
+public enum HydrationLevel {
+    PIN,
+    SUMMARY,
+    PROFILE,
+    FULL;
+
+    public boolean isAtLeast(HydrationLevel other) {
+
+        return compareTo(other) >= 0;
+    }
+}
@@ -0,0 +1,26 @@
+package com.fitmap.function.exception;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+
+@Getter
+public class PartialResultException extends TerminalException {
+
+    /**
+     *
+     */
+    private static final long serialVersionUID = 4306283725081977254L;
+
+    private final transient List<?> partialResult;
+
+    private final List<String> failedIds;
+
+    public PartialResultException(String message, Throwable t, List<?> partialResult, List<String> failedIds) {
+        super(message, t, HttpStatus.SERVICE_UNAVAILABLE);
+        this.partialResult = partialResult;
+        this.failedIds = failedIds;
+    }
+}
@@ -374,6 +374,7 @@ public class DtoMapper {
             .personalTrainer(from(model.getPersonalTrainer()))
             .student(from(model.getStudent()))
             .events(model.getEvents())
+            .pin(model.getPin())
             .build();
     }
 
@@ -0,0 +1,53 @@
+package com.fitmap.function.outbox;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CopyWrite {
+
+    public enum Operation {
+        SET,
+        UPDATE,
+        ARRAY_UNION,
+        FAN_OUT
+    }
+
+    private Operation operation;
+    private String path;
+    private String field;
+    private Object data;
+
+    public static CopyWrite set(String path, Object data) {
+
+        return new CopyWrite(Operation.SET, path, null, data);
+    }
+
+    public static CopyWrite update(String path, Map<String, Object> fields) {
+
+        return new CopyWrite(Operation.UPDATE, path, null, fields);
+    }
+
+    public static CopyWrite arrayUnion(String path, String field, List<?> values) {
+
+        return new CopyWrite(Operation.ARRAY_UNION, path, field, values);
+    }
+
+    public static CopyWrite fanOut(String path, String embeddedField, Map<String, Object> ownerProps) {
+
+        return new CopyWrite(Operation.FAN_OUT, path, embeddedField, ownerProps);
+    }
+
+}
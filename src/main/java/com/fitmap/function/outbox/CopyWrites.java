@@ -0,0 +1,94 @@
+package com.fitmap.function.outbox;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.FieldValue;
+import com.google.cloud.firestore.WriteBatch;
+
+public class CopyWrites {
+
+    private final WriteBatch batch;
+    private final List<CopyWrite> writes = new ArrayList<>();
+    private String owner;
+
+    private CopyWrites(WriteBatch batch) {
+        this.batch = batch;
+    }
+
+    public static CopyWrites immediate(WriteBatch batch) {
+
+        return new CopyWrites(batch);
+    }
+
+    public static CopyWrites deferred() {
+
+        return new CopyWrites(null);
+    }
+
+    public boolean isDeferred() {
+
+        return batch == null;
+    }
+
+    // the fanned-out document whose change produced these copies
+    public String getOwner() {
+
+        return owner;
+    }
+
+    public List<CopyWrite> getWrites() {
+
+        return Collections.unmodifiableList(writes);
+    }
+
+    public CopyWrites set(DocumentReference docRef, Object data) {
+
+        if(isDeferred()) {
+            writes.add(CopyWrite.set(docRef.getPath(), data));
+        } else {
+            batch.set(docRef, data);
+        }
+
+        return this;
+    }
+
+    public CopyWrites update(DocumentReference docRef, Map<String, Object> fields) {
+
+        if(isDeferred()) {
+            writes.add(CopyWrite.update(docRef.getPath(), fields));
+        } else {
+            batch.update(docRef, fields);
+        }
+
+        return this;
+    }
+
+    public CopyWrites update(DocumentReference docRef, String field, Object value) {
+
+        return update(docRef, Map.of(field, value));
+    }
+
+    public CopyWrites arrayUnion(DocumentReference docRef, String field, List<?> values) {
+
+        if(isDeferred()) {
+            writes.add(CopyWrite.arrayUnion(docRef.getPath(), field, values));
+        } else {
+            batch.update(docRef, field, FieldValue.arrayUnion(values.toArray()));
+        }
+
+        return this;
+    }
+
+    public CopyWrites fanOut(DocumentReference ownerRef, String embeddedField, Map<String, Object> ownerProps) {
+
+        owner = ownerRef.getPath();
+        writes.add(CopyWrite.fanOut(owner, embeddedField, ownerProps));
+
+        return this;
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.fitmap.function.outbox;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Precondition;
+import com.google.cloud.firestore.Query.Direction;
+import com.google.cloud.firestore.WriteBatch;
+
+import lombok.SneakyThrows;
+import lombok.extern.java.Log;
+
+@Log
+public class FirestoreOutbox implements Outbox {
+
+    public static final String OUTBOX_COLLECTION = "outbox_v2";
+    public static final String CREATED_AT = "createdAt";
+    public static final String OWNER = "owner";
+    public static final int MAX_OPERATIONS_PER_BATCH = 500;
+
+    private final Firestore db;
+    private final BiConsumer<OutboxMessage, Supplier<WriteBatch>> copyWriter;
+    private final Duration drainMinAge;
+    private final LocalOutbox local;
+
+    public FirestoreOutbox(Firestore db, BiConsumer<OutboxMessage, Supplier<WriteBatch>> copyWriter, int maxAttempts, Duration backoff, Duration drainMinAge) {
+        this.db = db;
+        this.copyWriter = copyWriter;
+        this.drainMinAge = drainMinAge;
+        this.local = new LocalOutbox(this::deliver, maxAttempts, backoff);
+    }
+
+    @Override
+    public void stage(WriteBatch batch, OutboxMessage message) {
+
+        batch.create(docRef(message.getId()), message);
+    }
+
+    @Override
+    public void publish(OutboxMessage message) {
+
+        local.publish(message);
+    }
+
+    @Override
+    @SneakyThrows
+    public int drain(int limit) {
+
+        var delivered = local.drain(limit);
+
+        var olderThan = new Date(System.currentTimeMillis() - drainMinAge.toMillis());
+
+        var docs = db.collection(OUTBOX_COLLECTION)
+            .whereLessThan(CREATED_AT, olderThan)
+            .orderBy(CREATED_AT, Direction.ASCENDING)
+            .limit(limit)
+            .get()
+            .get()
+            .getDocuments();
+
+        // once a message of an owner is not acked its newer ones wait for the next drain
+        var heldOwners = new HashSet<String>();
+
+        for (var doc : docs) {
+
+            var message = doc.toObject(OutboxMessage.class);
+            var owner = message.getOwner();
+
+            if(owner != null && heldOwners.contains(owner)) {
+                continue;
+            }
+
+            if(local.deliver(message)) {
+                delivered++;
+            } else if(owner != null) {
+                heldOwners.add(owner);
+            }
+        }
+
+        return delivered;
+    }
+
+    @SneakyThrows
+    boolean deliver(OutboxMessage message) {
+
+        var docRef = docRef(message.getId());
+
+        var snapshot = docRef.get().get();
+
+        if(!snapshot.exists()) {
+            log.log(Level.FINE, "Outbox message already delivered. id=" + message.getId());
+            return false;
+        }
+
+        var owner = snapshot.getString(OWNER);
+
+        // replaying over a newer message of the same owner would put stale values back in the copies
+        if(owner != null && hasOlderMessage(owner, snapshot.getTimestamp(CREATED_AT))) {
+            log.log(Level.FINE, "Outbox message held back behind an older one of its owner. id=" + message.getId() + ", owner=" + owner);
+            return false;
+        }
+
+        var batches = new WriteBatches(db, MAX_OPERATIONS_PER_BATCH);
+
+        copyWriter.accept(message, batches);
+
+        batches.get().delete(docRef, Precondition.updatedAt(snapshot.getUpdateTime()));
+
+        try {
+
+            // copies that did not fit in the batch of the delete are idempotent, a failed delivery replays them
+            for (var batch : batches.getBatches()) {
+                batch.commit().get();
+            }
+
+            return true;
+
+        } catch (ExecutionException e) {
+
+            if(!docRef.get().get().exists()) {
+                log.log(Level.FINE, "Outbox message delivered concurrently. id=" + message.getId());
+                return false;
+            }
+
+            throw e;
+        }
+    }
+
+    @SneakyThrows
+    private boolean hasOlderMessage(String owner, Timestamp createdAt) {
+
+        if(createdAt == null) {
+            return false;
+        }
+
+        return !db.collection(OUTBOX_COLLECTION)
+            .whereEqualTo(OWNER, owner)
+            .whereLessThan(CREATED_AT, createdAt)
+            .limit(1)
+            .get()
+            .get()
+            .isEmpty();
+    }
+
+    private DocumentReference docRef(String id) {
+
+        return db.collection(OUTBOX_COLLECTION).document(id);
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.fitmap.function.outbox;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+import com.google.cloud.firestore.WriteBatch;
+
+import lombok.SneakyThrows;
+import lombok.extern.java.Log;
+
+// best-effort on its own, nothing survives the instance; FirestoreOutbox uses it for the in-process delivery only
+@Log
+public class LocalOutbox implements Outbox {
+
+    private static final int REMEMBERED_IDS = 10_000;
+
+    private final Predicate<OutboxMessage> deliverer;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final AtomicInteger appliedSinceDrain = new AtomicInteger();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "local-outbox");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, Boolean> acceptedIds = new LinkedHashMap<>() {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > REMEMBERED_IDS;
+        }
+    };
+
+    public LocalOutbox(Predicate<OutboxMessage> deliverer, int maxAttempts, Duration backoff) {
+        this.deliverer = deliverer;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoff = backoff;
+    }
+
+    @Override
+    public void stage(WriteBatch batch, OutboxMessage message) {
+        // nothing is persisted, the message lives only in this instance's queue
+    }
+
+    @Override
+    public void publish(OutboxMessage message) {
+
+        synchronized (acceptedIds) {
+            if(acceptedIds.putIfAbsent(message.getId(), Boolean.TRUE) != null) {
+                log.log(Level.FINE, "Outbox message already accepted. id=" + message.getId());
+                return;
+            }
+        }
+
+        executor.execute(() -> {
+            if(deliver(message)) {
+                appliedSinceDrain.incrementAndGet();
+            }
+        });
+    }
+
+    @Override
+    @SneakyThrows
+    public int drain(int limit) {
+
+        executor.submit(() -> {}).get();
+
+        return appliedSinceDrain.getAndSet(0);
+    }
+
+    @SneakyThrows
+    public boolean deliver(OutboxMessage message) {
+
+        for (var attempt = 1;; attempt++) {
+
+            try {
+
+                return deliverer.test(message);
+
+            } catch (Exception e) {
+
+                if(attempt >= maxAttempts) {
+
+                    log.log(Level.SEVERE, "Giving up outbox message after " + attempt + " attempts. id=" + message.getId(), e);
+
+                    synchronized (acceptedIds) {
+                        acceptedIds.remove(message.getId());
+                    }
+
+                    return false;
+                }
+
+                log.log(Level.WARNING, "Outbox message delivery failed, retrying. id=" + message.getId() + ", attempt=" + attempt, e);
+
+                Thread.sleep(backoff.toMillis() << (attempt - 1));
+            }
+        }
+    }
+
+}
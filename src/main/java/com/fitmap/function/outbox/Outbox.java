@@ -0,0 +1,13 @@
+package com.fitmap.function.outbox;
+
+import com.google.cloud.firestore.WriteBatch;
+
+public interface Outbox {
+
+    void stage(WriteBatch batch, OutboxMessage message);
+
+    void publish(OutboxMessage message);
+
+    int drain(int limit);
+
+}
@@ -0,0 +1,37 @@
+package com.fitmap.function.outbox;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import com.google.cloud.firestore.annotation.ServerTimestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessage {
+
+    private String id;
+    private String owner;
+    // commit time of the owner's batch, the writes of one owner commit in order so their messages sort in order
+    @ServerTimestamp
+    private Date createdAt;
+    private List<CopyWrite> writes;
+
+    public static OutboxMessage of(String owner, List<CopyWrite> writes) {
+
+        return new OutboxMessage(UUID.randomUUID().toString(), owner, null, new ArrayList<>(writes));
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.fitmap.function.outbox;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteBatch;
+
+public class WriteBatches implements Supplier<WriteBatch> {
+
+    private final Firestore db;
+    private final int maxOperations;
+    private final List<WriteBatch> batches = new ArrayList<>();
+    private int operations;
+
+    public WriteBatches(Firestore db, int maxOperations) {
+        this.db = db;
+        this.maxOperations = Math.max(1, maxOperations);
+    }
+
+    // every call reserves one operation, so callers ask for the batch once per write
+    @Override
+    public WriteBatch get() {
+
+        if(batches.isEmpty() || operations == maxOperations) {
+            batches.add(db.batch());
+            operations = 0;
+        }
+
+        operations++;
+
+        return batches.get(batches.size() - 1);
+    }
+
+    public List<WriteBatch> getBatches() {
+
+        return Collections.unmodifiableList(batches);
+    }
+
+}
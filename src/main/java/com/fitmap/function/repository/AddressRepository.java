@@ -0,0 +1,18 @@
+package com.fitmap.function.repository;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.firebase.geofire.GeoLocation;
+import com.fitmap.function.domain.Address;
+import com.google.api.core.ApiFuture;
+
+public interface AddressRepository {
+
+    ApiFuture<List<Address>> findBySuperEntity(String superCollection, String superEntityId, boolean onlyMainAddress);
+
+    ApiFuture<List<Address>> findMasterByIds(List<String> ids);
+
+    ApiFuture<List<Address>> findMasterByGeoHashRange(String startHash, String endHash, Predicate<GeoLocation> locationFilter, String... fields);
+
+}
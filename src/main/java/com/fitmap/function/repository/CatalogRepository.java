@@ -0,0 +1,14 @@
+package com.fitmap.function.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.google.cloud.firestore.Query;
+
+public interface CatalogRepository<T> {
+
+    List<T> findAll();
+
+    Optional<Query> changeFeed();
+
+}
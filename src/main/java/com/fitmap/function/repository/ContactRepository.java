@@ -0,0 +1,12 @@
+package com.fitmap.function.repository;
+
+import java.util.List;
+
+import com.fitmap.function.domain.Contact;
+import com.google.api.core.ApiFuture;
+
+public interface ContactRepository {
+
+    ApiFuture<List<Contact>> findBySuperEntity(String superCollection, String superEntityId);
+
+}
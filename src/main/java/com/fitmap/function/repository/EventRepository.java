@@ -0,0 +1,12 @@
+package com.fitmap.function.repository;
+
+import java.util.List;
+
+import com.fitmap.function.domain.Event;
+import com.google.api.core.ApiFuture;
+
+public interface EventRepository {
+
+    ApiFuture<List<Event>> findBySuperEntity(String superCollection, String superEntityId);
+
+}
@@ -0,0 +1,12 @@
+package com.fitmap.function.repository;
+
+import java.util.List;
+
+import com.fitmap.function.domain.Gym;
+import com.google.api.core.ApiFuture;
+
+public interface GymRepository {
+
+    ApiFuture<List<Gym>> findByIds(List<String> ids, String... fields);
+
+}
@@ -0,0 +1,12 @@
+package com.fitmap.function.repository;
+
+import java.util.List;
+
+import com.fitmap.function.domain.PersonalTrainer;
+import com.google.api.core.ApiFuture;
+
+public interface PersonalTrainerRepository {
+
+    ApiFuture<List<PersonalTrainer>> findByIds(List<String> ids, String... fields);
+
+}
@@ -0,0 +1,12 @@
+package com.fitmap.function.repository;
+
+import java.util.List;
+
+import com.fitmap.function.domain.Student;
+import com.google.api.core.ApiFuture;
+
+public interface StudentRepository {
+
+    ApiFuture<List<Student>> findByIds(List<String> ids, String... fields);
+
+}
@@ -0,0 +1,12 @@
+package com.fitmap.function.repository;
+
+import java.util.List;
+
+import com.fitmap.function.domain.SubscriptionPlan;
+import com.google.api.core.ApiFuture;
+
+public interface SubscriptionPlanRepository {
+
+    ApiFuture<List<SubscriptionPlan>> findBySuperEntity(String superCollection, String superEntityId);
+
+}
@@ -0,0 +1,70 @@
+package com.fitmap.function.repository.firestore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchedIdLookup {
+
+    public static final int WHERE_IN_MAX_VALUES = 10;
+
+    public static ApiFuture<List<QueryDocumentSnapshot>> findByIds(CollectionReference collRef, Collection<String> ids, String... fields) {
+
+        if(CollectionUtils.isEmpty(ids)) {
+            return ApiFutures.immediateFuture(Collections.emptyList());
+        }
+
+        var distinctIds = ids
+            .stream()
+            .filter(StringUtils::isNotBlank)
+            .distinct()
+            .collect(Collectors.toList());
+
+        if(distinctIds.isEmpty()) {
+            return ApiFutures.immediateFuture(Collections.emptyList());
+        }
+
+        var query = ArrayUtils.isEmpty(fields) ? collRef : collRef.select(fields);
+
+        var chunkFutures = ListUtils
+            .partition(distinctIds, WHERE_IN_MAX_VALUES)
+            .stream()
+            .map(chunk -> query.whereIn(FieldPath.documentId(), new ArrayList<Object>(chunk)).get())
+            .collect(Collectors.toList());
+
+        return ApiFutures.transform(ApiFutures.allAsList(chunkFutures), snapshots -> {
+
+            var docPerId = new HashMap<String, QueryDocumentSnapshot>();
+
+            snapshots.forEach(snapshot -> snapshot.getDocuments().forEach(doc -> docPerId.put(doc.getId(), doc)));
+
+            return distinctIds
+                .stream()
+                .map(docPerId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        }, MoreExecutors.directExecutor());
+    }
+
+}
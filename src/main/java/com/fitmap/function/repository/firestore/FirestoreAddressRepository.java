@@ -0,0 +1,71 @@
+package com.fitmap.function.repository.firestore;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.firebase.geofire.GeoLocation;
+import com.fitmap.function.domain.Address;
+import com.fitmap.function.repository.AddressRepository;
+import com.fitmap.function.util.GeoLocationUtils;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class FirestoreAddressRepository implements AddressRepository {
+
+    private final Firestore db;
+
+    @Override
+    public ApiFuture<List<Address>> findBySuperEntity(String superCollection, String superEntityId, boolean onlyMainAddress) {
+
+        Query query = db.collection(superCollection).document(superEntityId).collection(Address.ADDRESSES_COLLECTION);
+
+        if(onlyMainAddress) {
+            query = query.whereEqualTo(Address.MAIN_ADDRESS, true);
+        }
+
+        return ApiFutures.transform(query.get(), snapshot -> snapshot.toObjects(Address.class), MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public ApiFuture<List<Address>> findMasterByIds(List<String> ids) {
+
+        var docsFuture = BatchedIdLookup.findByIds(db.collection(Address.ADDRESSES_COLLECTION), ids);
+
+        return ApiFutures.transform(docsFuture, docs -> docs
+            .stream()
+            .map(doc -> doc.toObject(Address.class))
+            .collect(Collectors.toList()), MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public ApiFuture<List<Address>> findMasterByGeoHashRange(String startHash, String endHash, Predicate<GeoLocation> locationFilter, String... fields) {
+
+        var collRef = db.collection(Address.ADDRESSES_COLLECTION);
+
+        var queryFuture = (ArrayUtils.isEmpty(fields) ? collRef : collRef.select(fields))
+            .orderBy(Address.GEO_HASH)
+            .startAt(startHash)
+            .endAt(endHash)
+            .get();
+
+        return ApiFutures.transform(queryFuture, snapshot -> snapshot
+            .getDocuments()
+            .stream()
+            .filter(doc -> GeoLocationUtils
+                .parse(doc.getString(Address.LATITUDE), doc.getString(Address.LONGITUDE))
+                .filter(locationFilter)
+                .isPresent())
+            .map(doc -> doc.toObject(Address.class))
+            .collect(Collectors.toList()), MoreExecutors.directExecutor());
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.fitmap.function.repository.firestore;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.fitmap.function.repository.CatalogRepository;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+@RequiredArgsConstructor
+public class FirestoreCatalogRepository<T> implements CatalogRepository<T> {
+
+    private final Firestore db;
+    private final String collection;
+    private final Class<T> clazz;
+
+    @Override
+    @SneakyThrows
+    public List<T> findAll() {
+
+        return db.collection(collection).get().get().toObjects(clazz);
+    }
+
+    @Override
+    public Optional<Query> changeFeed() {
+
+        return Optional.of(db.collection(collection));
+    }
+
+}
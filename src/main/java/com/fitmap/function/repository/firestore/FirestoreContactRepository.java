@@ -0,0 +1,27 @@
+package com.fitmap.function.repository.firestore;
+
+import java.util.List;
+
+import com.fitmap.function.domain.Contact;
+import com.fitmap.function.repository.ContactRepository;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.Firestore;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class FirestoreContactRepository implements ContactRepository {
+
+    private final Firestore db;
+
+    @Override
+    public ApiFuture<List<Contact>> findBySuperEntity(String superCollection, String superEntityId) {
+
+        var collRef = db.collection(superCollection).document(superEntityId).collection(Contact.CONTACTS_COLLECTION);
+
+        return ApiFutures.transform(collRef.get(), snapshot -> snapshot.toObjects(Contact.class), MoreExecutors.directExecutor());
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.fitmap.function.repository.firestore;
+
+import java.util.List;
+
+import com.fitmap.function.domain.Event;
+import com.fitmap.function.repository.EventRepository;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.Firestore;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class FirestoreEventRepository implements EventRepository {
+
+    private final Firestore db;
+
+    @Override
+    public ApiFuture<List<Event>> findBySuperEntity(String superCollection, String superEntityId) {
+
+        var collRef = db.collection(superCollection).document(superEntityId).collection(Event.EVENTS_COLLECTION);
+
+        return ApiFutures.transform(collRef.get(), snapshot -> snapshot.toObjects(Event.class), MoreExecutors.directExecutor());
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.fitmap.function.repository.firestore;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.domain.Gym;
+import com.fitmap.function.repository.GymRepository;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.Firestore;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class FirestoreGymRepository implements GymRepository {
+
+    private final Firestore db;
+
+    @Override
+    public ApiFuture<List<Gym>> findByIds(List<String> ids, String... fields) {
+
+        var docsFuture = BatchedIdLookup.findByIds(db.collection(Gym.GYMS_COLLECTION), ids, fields);
+
+        return ApiFutures.transform(docsFuture, docs -> docs
+            .stream()
+            .map(doc -> doc.toObject(Gym.class))
+            .collect(Collectors.toList()), MoreExecutors.directExecutor());
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.fitmap.function.repository.firestore;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.domain.PersonalTrainer;
+import com.fitmap.function.repository.PersonalTrainerRepository;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.Firestore;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class FirestorePersonalTrainerRepository implements PersonalTrainerRepository {
+
+    private final Firestore db;
+
+    @Override
+    public ApiFuture<List<PersonalTrainer>> findByIds(List<String> ids, String... fields) {
+
+        var docsFuture = BatchedIdLookup.findByIds(db.collection(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION), ids, fields);
+
+        return ApiFutures.transform(docsFuture, docs -> docs
+            .stream()
+            .map(doc -> doc.toObject(PersonalTrainer.class))
+            .collect(Collectors.toList()), MoreExecutors.directExecutor());
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.fitmap.function.repository.firestore;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.domain.Student;
+import com.fitmap.function.repository.StudentRepository;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.Firestore;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class FirestoreStudentRepository implements StudentRepository {
+
+    private final Firestore db;
+
+    @Override
+    public ApiFuture<List<Student>> findByIds(List<String> ids, String... fields) {
+
+        var docsFuture = BatchedIdLookup.findByIds(db.collection(Student.STUDENTS_COLLECTION), ids, fields);
+
+        return ApiFutures.transform(docsFuture, docs -> docs
+            .stream()
+            .map(doc -> doc.toObject(Student.class))
+            .collect(Collectors.toList()), MoreExecutors.directExecutor());
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.fitmap.function.repository.firestore;
+
+import java.util.List;
+
+import com.fitmap.function.domain.SubscriptionPlan;
+import com.fitmap.function.repository.SubscriptionPlanRepository;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.Firestore;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class FirestoreSubscriptionPlanRepository implements SubscriptionPlanRepository {
+
+    private final Firestore db;
+
+    @Override
+    public ApiFuture<List<SubscriptionPlan>> findBySuperEntity(String superCollection, String superEntityId) {
+
+        var collRef = db.collection(superCollection).document(superEntityId).collection(SubscriptionPlan.SUBSCRIPTION_PLANS_COLLECTION);
+
+        return ApiFutures.transform(collRef.get(), snapshot -> snapshot.toObjects(SubscriptionPlan.class), MoreExecutors.directExecutor());
+    }
+
+}
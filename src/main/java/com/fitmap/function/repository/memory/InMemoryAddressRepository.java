@@ -0,0 +1,64 @@
+package com.fitmap.function.repository.memory;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.firebase.geofire.GeoLocation;
+import com.fitmap.function.domain.Address;
+import com.fitmap.function.repository.AddressRepository;
+import com.fitmap.function.util.GeoLocationUtils;
+import com.google.api.core.ApiFuture;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class InMemoryAddressRepository implements AddressRepository {
+
+    private final InMemoryStore store;
+
+    @Override
+    public ApiFuture<List<Address>> findBySuperEntity(String superCollection, String superEntityId, boolean onlyMainAddress) {
+
+        var path = InMemoryStore.path(superCollection, superEntityId, Address.ADDRESSES_COLLECTION);
+
+        return store.respond(() -> store
+            .list(path, Address.class)
+            .stream()
+            .filter(address -> !onlyMainAddress || address.isMainAddress())
+            .map(InMemoryAddressRepository::copy)
+            .collect(Collectors.toList()));
+    }
+
+    @Override
+    public ApiFuture<List<Address>> findMasterByIds(List<String> ids) {
+
+        return store.respond(() -> store
+            .get(Address.ADDRESSES_COLLECTION, ids, Address.class)
+            .stream()
+            .map(InMemoryAddressRepository::copy)
+            .collect(Collectors.toList()));
+    }
+
+    @Override
+    public ApiFuture<List<Address>> findMasterByGeoHashRange(String startHash, String endHash, Predicate<GeoLocation> locationFilter, String... fields) {
+
+        return store.respond(() -> store
+            .scanMasterAddresses(startHash, endHash)
+            .stream()
+            .filter(address -> GeoLocationUtils
+                .parse(address.getLatitude(), address.getLongitude())
+                .filter(locationFilter)
+                .isPresent())
+            .map(stored -> copy(InMemoryStore.project(stored, fields)))
+            .collect(Collectors.toList()));
+    }
+
+    private static Address copy(Address stored) {
+
+        return stored.toBuilder()
+            .events(InMemoryStore.copyOf(stored.getEvents()))
+            .build();
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.fitmap.function.repository.memory;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.fitmap.function.repository.CatalogRepository;
+import com.google.cloud.firestore.Query;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+@RequiredArgsConstructor
+public class InMemoryCatalogRepository<T> implements CatalogRepository<T> {
+
+    private final InMemoryStore store;
+    private final String collection;
+    private final Class<T> clazz;
+
+    @Override
+    @SneakyThrows
+    public List<T> findAll() {
+
+        return store.respond(() -> store.list(collection, clazz)).get();
+    }
+
+    @Override
+    public Optional<Query> changeFeed() {
+
+        return Optional.empty();
+    }
+
+}
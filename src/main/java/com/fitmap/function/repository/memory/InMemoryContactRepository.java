@@ -0,0 +1,29 @@
+package com.fitmap.function.repository.memory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.domain.Contact;
+import com.fitmap.function.repository.ContactRepository;
+import com.google.api.core.ApiFuture;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class InMemoryContactRepository implements ContactRepository {
+
+    private final InMemoryStore store;
+
+    @Override
+    public ApiFuture<List<Contact>> findBySuperEntity(String superCollection, String superEntityId) {
+
+        var path = InMemoryStore.path(superCollection, superEntityId, Contact.CONTACTS_COLLECTION);
+
+        return store.respond(() -> store
+            .list(path, Contact.class)
+            .stream()
+            .map(stored -> stored.toBuilder().build())
+            .collect(Collectors.toList()));
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.fitmap.function.repository.memory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.domain.Event;
+import com.fitmap.function.repository.EventRepository;
+import com.google.api.core.ApiFuture;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class InMemoryEventRepository implements EventRepository {
+
+    private final InMemoryStore store;
+
+    @Override
+    public ApiFuture<List<Event>> findBySuperEntity(String superCollection, String superEntityId) {
+
+        var path = InMemoryStore.path(superCollection, superEntityId, Event.EVENTS_COLLECTION);
+
+        return store.respond(() -> store
+            .list(path, Event.class)
+            .stream()
+            .map(stored -> stored.toBuilder().build())
+            .collect(Collectors.toList()));
+    }
+
+}
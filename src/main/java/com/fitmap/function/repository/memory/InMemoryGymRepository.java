@@ -0,0 +1,41 @@
+package com.fitmap.function.repository.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.domain.Gym;
+import com.fitmap.function.repository.GymRepository;
+import com.google.api.core.ApiFuture;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class InMemoryGymRepository implements GymRepository {
+
+    private final InMemoryStore store;
+
+    @Override
+    public ApiFuture<List<Gym>> findByIds(List<String> ids, String... fields) {
+
+        return store.respond(() -> store
+            .get(Gym.GYMS_COLLECTION, ids, Gym.class)
+            .stream()
+            .map(stored -> copy(InMemoryStore.project(stored, fields)))
+            .collect(Collectors.toList()));
+    }
+
+    private static Gym copy(Gym stored) {
+
+        return stored.toBuilder()
+            .galleryPicturesUrls(InMemoryStore.copyOf(stored.getGalleryPicturesUrls()))
+            .sports(InMemoryStore.copyOf(stored.getSports()))
+            .focus(InMemoryStore.copyOf(stored.getFocus()))
+            .contacts(new ArrayList<>())
+            .addresses(new ArrayList<>())
+            .events(new ArrayList<>())
+            .subscriptionPlans(new ArrayList<>())
+            .build();
+    }
+
+}
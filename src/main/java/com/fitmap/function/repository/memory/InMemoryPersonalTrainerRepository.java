@@ -0,0 +1,42 @@
+package com.fitmap.function.repository.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.domain.PersonalTrainer;
+import com.fitmap.function.repository.PersonalTrainerRepository;
+import com.google.api.core.ApiFuture;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class InMemoryPersonalTrainerRepository implements PersonalTrainerRepository {
+
+    private final InMemoryStore store;
+
+    @Override
+    public ApiFuture<List<PersonalTrainer>> findByIds(List<String> ids, String... fields) {
+
+        return store.respond(() -> store
+            .get(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION, ids, PersonalTrainer.class)
+            .stream()
+            .map(stored -> copy(InMemoryStore.project(stored, fields)))
+            .collect(Collectors.toList()));
+    }
+
+    private static PersonalTrainer copy(PersonalTrainer stored) {
+
+        return stored.toBuilder()
+            .galleryPicturesUrls(InMemoryStore.copyOf(stored.getGalleryPicturesUrls()))
+            .sports(InMemoryStore.copyOf(stored.getSports()))
+            .fights(InMemoryStore.copyOf(stored.getFights()))
+            .focus(InMemoryStore.copyOf(stored.getFocus()))
+            .contacts(new ArrayList<>())
+            .addresses(new ArrayList<>())
+            .events(new ArrayList<>())
+            .subscriptionPlans(new ArrayList<>())
+            .build();
+    }
+
+}
@@ -0,0 +1,282 @@
+package com.fitmap.function.repository.memory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.domain.Address;
+import com.fitmap.function.domain.Contact;
+import com.fitmap.function.domain.Event;
+import com.fitmap.function.domain.Gym;
+import com.fitmap.function.domain.PersonalTrainer;
+import com.fitmap.function.domain.Pin;
+import com.fitmap.function.domain.Student;
+import com.fitmap.function.domain.SubscriptionPlan;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+import lombok.SneakyThrows;
+
+public class InMemoryStore {
+
+    private static final char GEO_HASH_KEY_SEPARATOR = '\u0000';
+
+    private final Duration latency;
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, NavigableMap<String, Object>> documentsPerCollection = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Address> masterAddressPerGeoHash = new ConcurrentSkipListMap<>();
+
+    public InMemoryStore(Duration latency) {
+
+        this.latency = latency;
+        this.scheduler = latency.isZero() || latency.isNegative()
+            ? null
+            : Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                var thread = new Thread(runnable, "in-memory-store");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    public static String path(String superCollection, String superEntityId, String subCollection) {
+
+        return superCollection + "/" + superEntityId + "/" + subCollection;
+    }
+
+    // keeps only the selected fields, like a Firestore select(fields) read, dotted paths select inside embedded objects
+    public static <T> T project(T document, String... fields) {
+
+        if(document == null || fields.length == 0) {
+            return document;
+        }
+
+        var projected = newInstance(document);
+
+        for (var field : fields) {
+            copyField(document, projected, field);
+        }
+
+        return projected;
+    }
+
+    public static <T> List<T> copyOf(List<T> list) {
+
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    @SneakyThrows
+    private static void copyField(Object source, Object target, String path) {
+
+        var head = StringUtils.substringBefore(path, ".");
+        var value = FieldUtils.readField(source, head, true);
+
+        if(head.length() == path.length() || value == null) {
+            FieldUtils.writeField(target, head, value, true);
+            return;
+        }
+
+        var embedded = FieldUtils.readField(target, head, true);
+
+        if(embedded == null) {
+            embedded = newInstance(value);
+            FieldUtils.writeField(target, head, embedded, true);
+        }
+
+        copyField(value, embedded, path.substring(head.length() + 1));
+    }
+
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private static <T> T newInstance(T document) {
+
+        return (T) document.getClass().getDeclaredConstructor().newInstance();
+    }
+
+    public <T> ApiFuture<T> respond(Supplier<T> query) {
+
+        if(scheduler == null) {
+
+            try {
+
+                return ApiFutures.immediateFuture(query.get());
+
+            } catch (RuntimeException e) {
+
+                return ApiFutures.immediateFailedFuture(e);
+            }
+        }
+
+        var future = SettableApiFuture.<T>create();
+
+        scheduler.schedule(() -> {
+
+            try {
+
+                future.set(query.get());
+
+            } catch (RuntimeException e) {
+
+                future.setException(e);
+            }
+
+        }, latency.toNanos(), TimeUnit.NANOSECONDS);
+
+        return future;
+    }
+
+    public void put(String collectionPath, String id, Object document) {
+
+        Validate.notBlank(id, "Document id is required in %s.", collectionPath);
+
+        documentsPerCollection.computeIfAbsent(collectionPath, ignored -> new ConcurrentSkipListMap<>()).put(id, document);
+    }
+
+    public void putMasterAddress(Address address) {
+
+        Validate.notBlank(address.getId(), "Address id is required.");
+
+        var previous = (Address) documentsPerCollection
+            .computeIfAbsent(Address.ADDRESSES_COLLECTION, ignored -> new ConcurrentSkipListMap<>())
+            .put(address.getId(), address);
+
+        if(previous != null && StringUtils.isNotBlank(previous.getGeoHash())) {
+            masterAddressPerGeoHash.remove(geoHashKey(previous));
+        }
+
+        if(StringUtils.isNotBlank(address.getGeoHash())) {
+            masterAddressPerGeoHash.put(geoHashKey(address), address);
+        }
+    }
+
+    public <T> List<T> list(String collectionPath, Class<T> clazz) {
+
+        var documents = documentsPerCollection.get(collectionPath);
+
+        if(documents == null) {
+            return new ArrayList<>();
+        }
+
+        return documents.values().stream().map(clazz::cast).collect(Collectors.toList());
+    }
+
+    public <T> List<T> get(String collectionPath, Collection<String> ids, Class<T> clazz) {
+
+        var documents = documentsPerCollection.get(collectionPath);
+
+        if(documents == null || ids == null) {
+            return new ArrayList<>();
+        }
+
+        return ids
+            .stream()
+            .filter(StringUtils::isNotBlank)
+            .distinct()
+            .map(documents::get)
+            .filter(Objects::nonNull)
+            .map(clazz::cast)
+            .collect(Collectors.toList());
+    }
+
+    public List<Address> scanMasterAddresses(String startHash, String endHash) {
+
+        var endKey = endHash + GEO_HASH_KEY_SEPARATOR + Character.MAX_VALUE;
+
+        return new ArrayList<>(masterAddressPerGeoHash.subMap(startHash, true, endKey, true).values());
+    }
+
+    public void saveGym(Gym gym) {
+
+        var root = gym.toBuilder()
+            .contacts(new ArrayList<>())
+            .addresses(new ArrayList<>())
+            .events(new ArrayList<>())
+            .subscriptionPlans(new ArrayList<>())
+            .build();
+
+        put(Gym.GYMS_COLLECTION, gym.getId(), root);
+
+        ListUtils.emptyIfNull(gym.getAddresses()).forEach(address -> {
+            put(path(Gym.GYMS_COLLECTION, gym.getId(), Address.ADDRESSES_COLLECTION), address.getId(), address);
+            putMasterAddress(address.withGym(root).withPin(Pin.from(root)));
+        });
+
+        saveSubEntities(Gym.GYMS_COLLECTION, gym.getId(), gym.getContacts(), gym.getEvents(), gym.getSubscriptionPlans());
+    }
+
+    public void savePersonalTrainer(PersonalTrainer personalTrainer) {
+
+        var root = personalTrainer.toBuilder()
+            .contacts(new ArrayList<>())
+            .addresses(new ArrayList<>())
+            .events(new ArrayList<>())
+            .subscriptionPlans(new ArrayList<>())
+            .build();
+
+        put(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION, personalTrainer.getId(), root);
+
+        ListUtils.emptyIfNull(personalTrainer.getAddresses()).forEach(address -> {
+            put(path(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION, personalTrainer.getId(), Address.ADDRESSES_COLLECTION), address.getId(), address);
+            putMasterAddress(address.withPersonalTrainer(root).withPin(Pin.from(root)));
+        });
+
+        saveSubEntities(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION, personalTrainer.getId(), personalTrainer.getContacts(), personalTrainer.getEvents(), personalTrainer.getSubscriptionPlans());
+    }
+
+    public void saveStudent(Student student) {
+
+        var root = student.toBuilder()
+            .contacts(new ArrayList<>())
+            .addresses(new ArrayList<>())
+            .build();
+
+        put(Student.STUDENTS_COLLECTION, student.getId(), root);
+
+        ListUtils.emptyIfNull(student.getAddresses()).forEach(address -> {
+            put(path(Student.STUDENTS_COLLECTION, student.getId(), Address.ADDRESSES_COLLECTION), address.getId(), address);
+            putMasterAddress(address.withStudent(root).withPin(Pin.from(root)));
+        });
+
+        saveSubEntities(Student.STUDENTS_COLLECTION, student.getId(), student.getContacts(), null, null);
+    }
+
+    public void clear() {
+
+        documentsPerCollection.clear();
+        masterAddressPerGeoHash.clear();
+    }
+
+    private void saveSubEntities(String superCollection, String superEntityId, List<Contact> contacts, List<Event> events, List<SubscriptionPlan> subscriptionPlans) {
+
+        var contactsPath = path(superCollection, superEntityId, Contact.CONTACTS_COLLECTION);
+        var eventsPath = path(superCollection, superEntityId, Event.EVENTS_COLLECTION);
+        var subscriptionPlansPath = path(superCollection, superEntityId, SubscriptionPlan.SUBSCRIPTION_PLANS_COLLECTION);
+
+        ListUtils.emptyIfNull(contacts).forEach(contact -> put(contactsPath, contact.getId(), contact));
+        ListUtils.emptyIfNull(events).forEach(event -> put(eventsPath, event.getId(), event));
+        ListUtils.emptyIfNull(subscriptionPlans).forEach(subscriptionPlan -> put(subscriptionPlansPath, subscriptionPlan.getId(), subscriptionPlan));
+    }
+
+    private static String geoHashKey(Address address) {
+
+        return address.getGeoHash() + GEO_HASH_KEY_SEPARATOR + address.getId();
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.fitmap.function.repository.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.domain.Student;
+import com.fitmap.function.repository.StudentRepository;
+import com.google.api.core.ApiFuture;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class InMemoryStudentRepository implements StudentRepository {
+
+    private final InMemoryStore store;
+
+    @Override
+    public ApiFuture<List<Student>> findByIds(List<String> ids, String... fields) {
+
+        return store.respond(() -> store
+            .get(Student.STUDENTS_COLLECTION, ids, Student.class)
+            .stream()
+            .map(stored -> copy(InMemoryStore.project(stored, fields)))
+            .collect(Collectors.toList()));
+    }
+
+    private static Student copy(Student stored) {
+
+        return stored.toBuilder()
+            .galleryPicturesUrls(InMemoryStore.copyOf(stored.getGalleryPicturesUrls()))
+            .contacts(new ArrayList<>())
+            .addresses(new ArrayList<>())
+            .build();
+    }
+
+}
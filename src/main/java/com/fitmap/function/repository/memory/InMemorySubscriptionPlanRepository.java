@@ -0,0 +1,29 @@
+package com.fitmap.function.repository.memory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.domain.SubscriptionPlan;
+import com.fitmap.function.repository.SubscriptionPlanRepository;
+import com.google.api.core.ApiFuture;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class InMemorySubscriptionPlanRepository implements SubscriptionPlanRepository {
+
+    private final InMemoryStore store;
+
+    @Override
+    public ApiFuture<List<SubscriptionPlan>> findBySuperEntity(String superCollection, String superEntityId) {
+
+        var path = InMemoryStore.path(superCollection, superEntityId, SubscriptionPlan.SUBSCRIPTION_PLANS_COLLECTION);
+
+        return store.respond(() -> store
+            .list(path, SubscriptionPlan.class)
+            .stream()
+            .map(stored -> stored.toBuilder().build())
+            .collect(Collectors.toList()));
+    }
+
+}
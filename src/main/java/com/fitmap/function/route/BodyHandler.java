@@ -0,0 +1,11 @@
+package com.fitmap.function.route;
+
+import com.google.cloud.functions.HttpRequest;
+import com.google.cloud.functions.HttpResponse;
+
+@FunctionalInterface
+public interface BodyHandler<T> {
+
+    void handle(HttpRequest request, HttpResponse response, T body);
+
+}
@@ -0,0 +1,44 @@
+package com.fitmap.function.route;
+
+import java.util.logging.Level;
+
+import javax.validation.ConstraintViolationException;
+
+import com.fitmap.function.exception.TerminalException;
+import com.fitmap.function.service.ResponseService;
+import com.google.cloud.functions.HttpRequest;
+import com.google.cloud.functions.HttpResponse;
+
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.java.Log;
+
+@Log
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ErrorMapper {
+
+    public static void answer(HttpRequest request, HttpResponse response, Exception e) {
+
+        ResponseService.discardSuccessHeaders(response);
+
+        if(e instanceof TerminalException) {
+            ResponseService.answerTerminalException(request, response, (TerminalException) e);
+        } else if(e instanceof MethodNotAllowedException) {
+            ResponseService.answerMethodNotAllowed(request, response, (MethodNotAllowedException) e);
+        } else if(e instanceof UnsupportedMediaTypeStatusException) {
+            ResponseService.answerUnsupportedMediaType(request, response, (UnsupportedMediaTypeStatusException) e);
+        } else if(e instanceof HttpMessageNotReadableException) {
+            ResponseService.answerBadRequest(request, response, (HttpMessageNotReadableException) e);
+        } else if(e instanceof ConstraintViolationException) {
+            ResponseService.answerBadRequest(request, response, (ConstraintViolationException) e);
+        } else {
+            log.log(Level.SEVERE, e.getMessage(), e);
+            ResponseService.answerInternalServerError(request, response, e);
+        }
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.fitmap.function.route;
+
+@FunctionalInterface
+public interface Middleware {
+
+    Handler wrap(Handler next);
+
+}
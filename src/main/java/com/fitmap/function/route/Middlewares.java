@@ -0,0 +1,73 @@
+package com.fitmap.function.route;
+
+import com.fitmap.function.service.CheckRequestCallerService;
+import com.fitmap.function.service.CheckRequestContentTypeService;
+import com.fitmap.function.service.ColdStartService;
+import com.fitmap.function.service.ColdStartService.Client;
+import com.fitmap.function.service.ReadRequestService;
+import com.google.auth.oauth2.TokenVerifier;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class Middlewares {
+
+    private static final String GOOGLE_ISSUER = "https://accounts.google.com";
+
+    private static final Middleware JSON_CONTENT_TYPE = next -> (request, response) -> {
+        CheckRequestContentTypeService.checkApplicationJsonContentType(request);
+        next.handle(request, response);
+    };
+
+    private static final Middleware USER_ID = next -> (request, response) -> {
+        ReadRequestService.getUserId(request);
+        next.handle(request, response);
+    };
+
+    private static final Middleware USER_ID_TOKEN = next -> (request, response) -> {
+        ReadRequestService.getUserIdToken(request);
+        next.handle(request, response);
+    };
+
+    public static Middleware prepare(Client... clients) {
+
+        return next -> (request, response) -> {
+            ColdStartService.prepare(clients);
+            next.handle(request, response);
+        };
+    }
+
+    public static Middleware jsonContentType() {
+
+        return JSON_CONTENT_TYPE;
+    }
+
+    public static Middleware userId() {
+
+        return USER_ID;
+    }
+
+    public static Middleware userIdToken() {
+
+        return USER_ID_TOKEN;
+    }
+
+    public static Middleware serviceAccount(String audience, String serviceAccount) {
+
+        var verifier = StringUtils.isBlank(audience) ? null : TokenVerifier.newBuilder().setIssuer(GOOGLE_ISSUER).setAudience(audience).build();
+
+        return next -> (request, response) -> {
+            CheckRequestCallerService.checkServiceAccount(request, verifier, serviceAccount);
+            next.handle(request, response);
+        };
+    }
+
+    public static <T> Handler body(Class<T> type, BodyHandler<T> handler) {
+
+        return (request, response) -> handler.handle(request, response, ReadRequestService.getBody(request, type));
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.fitmap.function.route;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.exception.TerminalException;
+import com.fitmap.function.service.BufferedHeadersResponse;
+import com.google.cloud.functions.HttpRequest;
+import com.google.cloud.functions.HttpResponse;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.MethodNotAllowedException;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+public class RouteTable {
+
+    private final Map<String, PathRoutes> routesPerPath;
+
+    @Getter
+    private final List<Route> routes;
+
+    private RouteTable(List<Route> routes) {
+
+        var grouped = new HashMap<String, Map<HttpMethod, Route>>();
+
+        for (var route : routes) {
+
+            var methods = grouped.computeIfAbsent(route.getPath(), path -> new EnumMap<>(HttpMethod.class));
+
+            if(methods.putIfAbsent(route.getMethod(), route) != null) {
+                throw new IllegalStateException("Duplicated route " + route + ".");
+            }
+        }
+
+        this.routesPerPath = Map.copyOf(grouped
+            .entrySet()
+            .stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> new PathRoutes(entry.getValue()))));
+
+        this.routes = List.copyOf(routes);
+    }
+
+    public static Builder builder() {
+
+        return new Builder();
+    }
+
+    public void serve(HttpRequest request, HttpResponse response) {
+
+        var buffered = new BufferedHeadersResponse(response);
+
+        try {
+
+            dispatch(request, buffered);
+
+        } catch (Exception e) { ErrorMapper.answer(request, buffered, e); }
+
+        buffered.commit();
+    }
+
+    public void dispatch(HttpRequest request, HttpResponse response) {
+
+        final var path = request.getPath();
+
+        var pathRoutes = routesPerPath.get(path);
+
+        if(pathRoutes == null) {
+            throw new TerminalException("No mapping found for HTTP request path [" + path + "]", HttpStatus.NOT_FOUND);
+        }
+
+        var method = HttpMethod.resolve(request.getMethod());
+        var route = method == null ? null : pathRoutes.methods.get(method);
+
+        if(route == null) {
+            throw new MethodNotAllowedException(request.getMethod(), pathRoutes.allowedMethods);
+        }
+
+        route.chain.handle(request, response);
+    }
+
+    private static class PathRoutes {
+
+        private final Map<HttpMethod, Route> methods;
+        private final List<HttpMethod> allowedMethods;
+
+        private PathRoutes(Map<HttpMethod, Route> methods) {
+            this.methods = Collections.unmodifiableMap(new EnumMap<>(methods));
+            this.allowedMethods = List.copyOf(methods.keySet());
+        }
+
+    }
+
+    @Getter
+    @ToString(of = { "method", "path" })
+    public static class Route {
+
+        private final HttpMethod method;
+        private final String path;
+        private final Handler handler;
+        private final List<Middleware> middlewares;
+        private final Handler chain;
+
+        private Route(HttpMethod method, String path, Handler handler, List<Middleware> middlewares) {
+
+            this.method = method;
+            this.path = path;
+            this.handler = handler;
+            this.middlewares = middlewares;
+
+            var chain = handler;
+
+            for (var i = middlewares.size() - 1; i >= 0; i--) {
+                chain = middlewares.get(i).wrap(chain);
+            }
+
+            this.chain = chain;
+        }
+
+    }
+
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Builder {
+
+        private final List<Route> routes = new ArrayList<>();
+
+        public Builder route(HttpMethod method, String path, Handler handler, Middleware... middlewares) {
+
+            routes.add(new Route(method, path, handler, List.of(middlewares)));
+
+            return this;
+        }
+
+        public Builder get(String path, Handler handler, Middleware... middlewares) {
+
+            return route(HttpMethod.GET, path, handler, middlewares);
+        }
+
+        public Builder post(String path, Handler handler, Middleware... middlewares) {
+
+            return route(HttpMethod.POST, path, handler, middlewares);
+        }
+
+        public Builder put(String path, Handler handler, Middleware... middlewares) {
+
+            return route(HttpMethod.PUT, path, handler, middlewares);
+        }
+
+        public Builder delete(String path, Handler handler, Middleware... middlewares) {
+
+            return route(HttpMethod.DELETE, path, handler, middlewares);
+        }
+
+        public Builder add(Consumer<Builder> routes) {
+
+            routes.accept(this);
+
+            return this;
+        }
+
+        public RouteTable build() {
+
+            return new RouteTable(routes);
+        }
+
+    }
+
+}
@@ -3,8 +3,10 @@ package com.fitmap.function.service;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
@@ -12,21 +14,22 @@ import com.firebase.geofire.GeoLocation;
 import com.firebase.geofire.core.GeoHashQuery;
 import com.firebase.geofire.util.GeoUtils;
 import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.RepositoryConfig;
 import com.fitmap.function.domain.Address;
 import com.fitmap.function.domain.Event;
 import com.fitmap.function.domain.Gym;
 import com.fitmap.function.domain.PersonalTrainer;
+import com.fitmap.function.domain.Pin;
 import com.fitmap.function.domain.Student;
 import com.fitmap.function.exception.TerminalException;
+import com.fitmap.function.outbox.CopyWrites;
+import com.fitmap.function.util.ApiFutureUtils;
+import com.google.api.core.ApiFutures;
 import com.google.cloud.firestore.DocumentReference;
-import com.google.cloud.firestore.DocumentSnapshot;
-import com.google.cloud.firestore.FieldPath;
 import com.google.cloud.firestore.Firestore;
-import com.google.cloud.firestore.QuerySnapshot;
 import com.google.cloud.firestore.WriteBatch;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.http.HttpStatus;
 
@@ -39,27 +42,42 @@ import lombok.extern.java.Log;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class AddressService {
 
-    private static final Firestore db = FirestoreConfig.FIRESTORE;
+    public static final String[] PIN_FIELDS = {
+        Address.ID,
+        Address.ADDRESS_TEXT,
+        Address.MAIN_ADDRESS,
+        Address.LATITUDE,
+        Address.LONGITUDE,
+        Address.GEO_HASH,
+        Address.PIN,
+        Address.GYM + "." + Gym.ID,
+        Address.PERSONAL_TRAINER + "." + PersonalTrainer.ID,
+        Address.STUDENT + "." + Student.ID
+    };
+
+    private static Firestore db() {
+
+        return FirestoreConfig.FIRESTORE;
+    }
 
-    @SneakyThrows
     public static List<Address> findInSuperAddressCollection(List<String> addressesIds) {
 
         if(CollectionUtils.isEmpty(addressesIds)) {
             return Collections.emptyList();
         }
 
-        return db
-                 .collection(Address.ADDRESSES_COLLECTION)
-                 .whereIn(FieldPath.documentId(), addressesIds)
-                 .get()
-                 .get()
-                 .toObjects(Address.class);
+        return ApiFutureUtils.await(RepositoryConfig.ADDRESS_REPOSITORY.findMasterByIds(addressesIds));
 
     }
 
-    @SneakyThrows
     public static List<Address> findAddressesNearBy(double latitude, double longitude, double radius) {
 
+        return findAddressesNearBy(latitude, longitude, radius, new String[0]);
+    }
+
+    @SneakyThrows
+    public static List<Address> findAddressesNearBy(double latitude, double longitude, double radius, String... fields) {
+
         if(radius <= 0 || radius > 5) {
             return Collections.emptyList();
         }
@@ -68,54 +86,28 @@ public class AddressService {
 
         var centerLocation = new GeoLocation(latitude, longitude);
 
-        var geoHashQueries = GeoHashQuery.queriesAtLocation(centerLocation, radiusInM);
-
-        var snapshots = new ArrayList<QuerySnapshot>();
-
-        var orderBy = db.collection(Address.ADDRESSES_COLLECTION).orderBy(Address.GEO_HASH);
-
-        for (var geoQuery : geoHashQueries) {
-
-            var query = orderBy
-                .startAt(geoQuery.getStartValue())
-                .endAt(geoQuery.getEndValue());
-
-            snapshots.add(query.get().get());
-        }
-
-        var matchingDocs = new ArrayList<DocumentSnapshot>();
+        Predicate<GeoLocation> withinRadius = location -> GeoUtils.distance(location, centerLocation) <= radiusInM;
 
-        snapshots.forEach(snapshot -> {
-
-            for (var doc : snapshot.getDocuments()) {
+        var geoHashQueries = GeoHashQuery.queriesAtLocation(centerLocation, radiusInM);
 
-                String latString = doc.getString(Address.LATITUDE);
-                String lngString = doc.getString(Address.LONGITUDE);
-                
-                if(StringUtils.isNoneBlank(latString, lngString)) {
+        var matchingAddressesPerQuery = geoHashQueries
+            .stream()
+            .map(geoQuery -> RepositoryConfig.ADDRESS_REPOSITORY.findMasterByGeoHashRange(geoQuery.getStartValue(), geoQuery.getEndValue(), withinRadius, fields))
+            .collect(Collectors.toList());
 
-                    double lat = Double.parseDouble(latString);
-                    double lng = Double.parseDouble(lngString);
-                    GeoLocation docLocation = new GeoLocation(lat, lng);
-                    double distance = GeoUtils.distance(docLocation, centerLocation);
-                    if (distance <= radiusInM) {
-                        matchingDocs.add(doc);
-                    }
+        var matchingAddresses = new LinkedHashMap<String, Address>();
 
-                }
-            }
+        ApiFutures
+            .allAsList(matchingAddressesPerQuery)
+            .get()
+            .forEach(addresses -> addresses.forEach(address -> matchingAddresses.putIfAbsent(address.getId(), address)));
 
-        });
-
-        return matchingDocs.stream().map(doc -> doc.toObject(Address.class)).collect(Collectors.toList());
+        return new ArrayList<>(matchingAddresses.values());
     }
 
-    @SneakyThrows
     public static List<Address> find(String superEntityId, String superCollection) {
 
-        var docRef = db.collection(superCollection).document(superEntityId).collection(Address.ADDRESSES_COLLECTION);
-
-        return docRef.get().get().toObjects(Address.class);
+        return ApiFutureUtils.await(RepositoryConfig.ADDRESS_REPOSITORY.findBySuperEntity(superCollection, superEntityId, false));
     }
 
     private static Object findSuperEntity(String superEntityId, String superCollection) {
@@ -150,9 +142,9 @@ public class AddressService {
 
         var superEntity = findSuperEntity(superEntityId, superCollection);
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var collRef = db.collection(superCollection).document(superEntityId).collection(Address.ADDRESSES_COLLECTION);
+        var collRef = db().collection(superCollection).document(superEntityId).collection(Address.ADDRESSES_COLLECTION);
 
         var subEntitiesPerDocRef = addresses.stream().map(address -> {
             var ref = collRef.document();
@@ -162,7 +154,7 @@ public class AddressService {
 
         CheckConstraintsRequestBodyService.checkConstraints(addresses);
 
-        var addressesCollRef = db.collection(Address.ADDRESSES_COLLECTION);
+        var addressesCollRef = db().collection(Address.ADDRESSES_COLLECTION);
         var masterAddressPerDocRef = new ArrayList<Pair<Address, DocumentReference>>();
 
         subEntitiesPerDocRef.forEach(pair -> {
@@ -171,13 +163,13 @@ public class AddressService {
             Address newAddress = null;
             switch (superCollection) {
                 case Student.STUDENTS_COLLECTION:
-                    newAddress = pair.getLeft().withStudent((Student) superEntity);
+                    newAddress = pair.getLeft().withStudent((Student) superEntity).withPin(Pin.from((Student) superEntity));
                     break;
                 case Gym.GYMS_COLLECTION:
-                    newAddress = pair.getLeft().withGym((Gym) superEntity);
+                    newAddress = pair.getLeft().withGym((Gym) superEntity).withPin(Pin.from((Gym) superEntity));
                     break;
                 case PersonalTrainer.PERSONAL_TRAINERS_COLLECTION:
-                    newAddress = pair.getLeft().withPersonalTrainer((PersonalTrainer) superEntity);
+                    newAddress = pair.getLeft().withPersonalTrainer((PersonalTrainer) superEntity).withPin(Pin.from((PersonalTrainer) superEntity));
                     break;
                 default:
                     return;
@@ -189,7 +181,7 @@ public class AddressService {
         });
         masterAddressPerDocRef.forEach(pair -> batch.create(pair.getRight(), pair.getLeft()));
 
-        commit(batch);
+        commit(batch, superEntityId, superCollection);
 
         // ensureOnlyOneMainAddress(superEntityId, superCollection, addresses);
 
@@ -267,12 +259,14 @@ public class AddressService {
 
         var eventsPerAddress = getEventsPerAddress(superEntityId, superCollection);
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var superEntityDocRef = db.collection(superCollection).document(superEntityId);
+        var superEntityDocRef = db().collection(superCollection).document(superEntityId);
         var subAddressesCollRef = superEntityDocRef.collection(Address.ADDRESSES_COLLECTION);
         var subEventCollRef = superEntityDocRef.collection(Event.EVENTS_COLLECTION);
-        var superAddressesCollRef = db.collection(Address.ADDRESSES_COLLECTION);
+        var superAddressesCollRef = db().collection(Address.ADDRESSES_COLLECTION);
+
+        var copies = OutboxService.copies(batch);
 
         addresses.forEach(address -> {
 
@@ -303,11 +297,11 @@ public class AddressService {
             superFields.remove(Address.STUDENT);
 
             batch.update(subDocRef, subFields);
-            batch.update(superDocRef, superFields);
+            copies.update(superDocRef, superFields);
 
         });
 
-        commit(batch);
+        commit(batch, copies, superEntityId, superCollection);
 
         // ensureOnlyOneMainAddress(superEntityId, superCollection, addresses);
 
@@ -321,12 +315,12 @@ public class AddressService {
 
         var eventsPerAddressId = eventsPerAddress.entrySet().stream().collect(Collectors.toMap(e -> e.getKey().getId(), e -> e.getValue()));
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var superEntityDocRef = db.collection(superCollection).document(superEntityId);
+        var superEntityDocRef = db().collection(superCollection).document(superEntityId);
         var subAddressesCollRef = superEntityDocRef.collection(Address.ADDRESSES_COLLECTION);
         var subEventCollRef = superEntityDocRef.collection(Event.EVENTS_COLLECTION);
-        var superAddressesCollRef = db.collection(Address.ADDRESSES_COLLECTION);;
+        var superAddressesCollRef = db().collection(Address.ADDRESSES_COLLECTION);;
 
         addressesIds.forEach(id -> {
 
@@ -347,13 +341,21 @@ public class AddressService {
             batch.delete(superDocRef);
         });
 
-        commit(batch);
+        commit(batch, superEntityId, superCollection);
     }
 
-    private static void commit(WriteBatch batch) {
+    private static void commit(WriteBatch batch, String superEntityId, String superCollection) {
+
+        commit(batch, CopyWrites.immediate(batch), superEntityId, superCollection);
+    }
+
+    private static void commit(WriteBatch batch, CopyWrites copies, String superEntityId, String superCollection) {
+
+        SuperEntityService.touch(batch, copies, superEntityId, superCollection);
+
         try {
 
-            batch.commit().get();
+            OutboxService.commit(batch, copies);
 
         } catch (Exception e) {
 
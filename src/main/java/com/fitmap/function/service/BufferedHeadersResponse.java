@@ -0,0 +1,118 @@
+package com.fitmap.function.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import com.google.cloud.functions.HttpResponse;
+
+public class BufferedHeadersResponse implements HttpResponse {
+
+    private final HttpResponse delegate;
+    private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    private boolean committed;
+
+    public BufferedHeadersResponse(HttpResponse delegate) {
+        this.delegate = delegate;
+    }
+
+    public void setHeader(String header, String value) {
+
+        if(committed) {
+            delegate.appendHeader(header, value);
+            return;
+        }
+
+        var values = new ArrayList<String>();
+        values.add(value);
+
+        headers.put(header, values);
+    }
+
+    public void removeHeader(String header) {
+
+        headers.remove(header);
+    }
+
+    public void commit() {
+
+        if(committed) {
+            return;
+        }
+
+        committed = true;
+
+        headers.forEach((header, values) -> values.forEach(value -> delegate.appendHeader(header, value)));
+        headers.clear();
+    }
+
+    @Override
+    public void setStatusCode(int code) {
+
+        delegate.setStatusCode(code);
+    }
+
+    @Override
+    public void setStatusCode(int code, String message) {
+
+        delegate.setStatusCode(code, message);
+    }
+
+    @Override
+    public void setContentType(String contentType) {
+
+        delegate.setContentType(contentType);
+    }
+
+    @Override
+    public Optional<String> getContentType() {
+
+        return delegate.getContentType();
+    }
+
+    @Override
+    public void appendHeader(String header, String value) {
+
+        if(committed) {
+            delegate.appendHeader(header, value);
+            return;
+        }
+
+        headers.computeIfAbsent(header, ignored -> new ArrayList<>()).add(value);
+    }
+
+    @Override
+    public Map<String, List<String>> getHeaders() {
+
+        var merged = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+
+        delegate.getHeaders().forEach((header, values) -> merged.put(header, new ArrayList<>(values)));
+        headers.forEach((header, values) -> merged.computeIfAbsent(header, ignored -> new ArrayList<>()).addAll(values));
+
+        return Collections.unmodifiableMap(merged);
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+
+        commit();
+
+        return delegate.getOutputStream();
+    }
+
+    @Override
+    public BufferedWriter getWriter() throws IOException {
+
+        commit();
+
+        return delegate.getWriter();
+    }
+
+}
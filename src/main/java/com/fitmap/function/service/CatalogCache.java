@@ -0,0 +1,121 @@
+package com.fitmap.function.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+public class CatalogCache<T> {
+
+    private final Supplier<List<T>> loader;
+    private final Function<T, String> idGetter;
+    private final long ttlNanos;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Map<String, T> itemPerId;
+    private volatile long loadedAt;
+    private volatile Pair<Map<String, T>, String> versionPerSnapshot;
+
+    public CatalogCache(Supplier<List<T>> loader, Function<T, String> idGetter, Duration ttl) {
+        this.loader = loader;
+        this.idGetter = idGetter;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public List<T> findAll() {
+
+        return List.copyOf(current().values());
+    }
+
+    public List<T> find(Collection<String> ids) {
+
+        if(CollectionUtils.isEmpty(ids)) {
+            return Collections.emptyList();
+        }
+
+        var current = current();
+
+        return ids
+            .stream()
+            .distinct()
+            .map(current::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    public String version() {
+
+        var current = current();
+        var memo = versionPerSnapshot;
+
+        if(memo != null && memo.getLeft() == current) {
+            return memo.getRight();
+        }
+
+        var version = ETagService.fromCatalog(current);
+
+        versionPerSnapshot = Pair.of(current, version);
+
+        return version;
+    }
+
+    public void invalidate() {
+
+        generation.incrementAndGet();
+        itemPerId = null;
+    }
+
+    private Map<String, T> current() {
+
+        var current = itemPerId;
+
+        if(current != null && !isExpired()) {
+            return current;
+        }
+
+        synchronized (this) {
+
+            if(itemPerId != null && !isExpired()) {
+                return itemPerId;
+            }
+
+            var loadingGeneration = generation.get();
+            var loadingStartedAt = System.nanoTime();
+            var loaded = load();
+
+            if(loadingGeneration == generation.get()) {
+                itemPerId = loaded;
+                loadedAt = loadingStartedAt;
+            }
+
+            return loaded;
+        }
+    }
+
+    private boolean isExpired() {
+
+        return System.nanoTime() - loadedAt > ttlNanos;
+    }
+
+    private Map<String, T> load() {
+
+        var loaded = loader
+            .get()
+            .stream()
+            .collect(Collectors.toMap(idGetter, Function.identity(), (a, b) -> b, LinkedHashMap::new));
+
+        return Collections.unmodifiableMap(loaded);
+    }
+
+}
@@ -0,0 +1,239 @@
+package com.fitmap.function.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import com.google.cloud.firestore.DocumentChange;
+import com.google.cloud.firestore.FirestoreException;
+import com.google.cloud.firestore.ListenerRegistration;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QuerySnapshot;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import lombok.extern.java.Log;
+
+@Log
+public class CatalogReplica<T> {
+
+    private static final Duration FIRST_SNAPSHOT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration RETRY_LISTENER_AFTER = Duration.ofSeconds(30);
+
+    private final Query query;
+    private final Class<T> clazz;
+    private final CatalogCache<T> fallback;
+    private final boolean enabled;
+    private final Duration firstSnapshotTimeout;
+
+    private ListenerRegistration registration;
+    private CountDownLatch firstSnapshot;
+    private long retryListenerAt;
+
+    private volatile boolean firstSnapshotTimedOut;
+
+    private volatile Map<String, T> itemPerId;
+    private volatile Pair<Map<String, T>, String> versionPerSnapshot;
+
+    public CatalogReplica(Optional<Query> changeFeed, Class<T> clazz, CatalogCache<T> fallback, boolean enabled) {
+        this(changeFeed, clazz, fallback, enabled, FIRST_SNAPSHOT_TIMEOUT);
+    }
+
+    CatalogReplica(Optional<Query> changeFeed, Class<T> clazz, CatalogCache<T> fallback, boolean enabled, Duration firstSnapshotTimeout) {
+        this.query = changeFeed.orElse(null);
+        this.clazz = clazz;
+        this.fallback = fallback;
+        this.enabled = enabled && changeFeed.isPresent();
+        this.firstSnapshotTimeout = firstSnapshotTimeout;
+        this.retryListenerAt = System.nanoTime();
+    }
+
+    public List<T> findAll() {
+
+        var current = current();
+
+        if(current == null) {
+            return fallback.findAll();
+        }
+
+        return List.copyOf(current.values());
+    }
+
+    public List<T> find(Collection<String> ids) {
+
+        var current = current();
+
+        if(current == null) {
+            return fallback.find(ids);
+        }
+
+        if(CollectionUtils.isEmpty(ids)) {
+            return Collections.emptyList();
+        }
+
+        return ids
+            .stream()
+            .distinct()
+            .map(current::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    public String version() {
+
+        var current = current();
+
+        if(current == null) {
+            return fallback.version();
+        }
+
+        var memo = versionPerSnapshot;
+
+        if(memo != null && memo.getLeft() == current) {
+            return memo.getRight();
+        }
+
+        var version = ETagService.fromCatalog(current);
+
+        versionPerSnapshot = Pair.of(current, version);
+
+        return version;
+    }
+
+    public void invalidate() {
+
+        fallback.invalidate();
+    }
+
+    // applied right after a commit so this instance reads its own writes before the listener echoes them
+    public void written(Collection<T> items, Function<T, String> idGetter) {
+
+        fallback.invalidate();
+
+        update(false, updated -> items.forEach(item -> updated.put(idGetter.apply(item), item)));
+    }
+
+    public void removed(Collection<String> ids) {
+
+        fallback.invalidate();
+
+        update(false, updated -> ids.forEach(updated::remove));
+    }
+
+    private Map<String, T> current() {
+
+        var current = itemPerId;
+
+        if(current != null || !enabled) {
+            return current;
+        }
+
+        var latch = startListening();
+
+        if(latch == null || firstSnapshotTimedOut) {
+            return itemPerId;
+        }
+
+        try {
+
+            if(!latch.await(firstSnapshotTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+
+                log.log(Level.WARNING, "Catalog listener did not deliver a first snapshot in " + firstSnapshotTimeout + ", serving the TTL cache until it does.");
+
+                firstSnapshotTimedOut = true;
+            }
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+        }
+
+        return itemPerId;
+    }
+
+    private synchronized CountDownLatch startListening() {
+
+        if(registration != null) {
+            return firstSnapshot;
+        }
+
+        if(System.nanoTime() - retryListenerAt < 0) {
+            return null;
+        }
+
+        var latch = new CountDownLatch(1);
+
+        firstSnapshot = latch;
+        firstSnapshotTimedOut = false;
+        registration = query.addSnapshotListener((snapshot, error) -> onEvent(snapshot, error, latch));
+
+        return latch;
+    }
+
+    private synchronized void stopListening() {
+
+        if(registration != null) {
+            registration.remove();
+        }
+
+        registration = null;
+        itemPerId = null;
+        retryListenerAt = System.nanoTime() + RETRY_LISTENER_AFTER.toNanos();
+    }
+
+    private void onEvent(QuerySnapshot snapshot, FirestoreException error, CountDownLatch latch) {
+
+        if(error != null) {
+
+            log.log(Level.SEVERE, "Catalog listener failed, falling back to the TTL cache. " + error.getMessage(), error);
+
+            stopListening();
+            latch.countDown();
+            return;
+        }
+
+        update(true, updated -> {
+
+            for (var change : snapshot.getDocumentChanges()) {
+
+                var doc = change.getDocument();
+
+                if(change.getType() == DocumentChange.Type.REMOVED) {
+                    updated.remove(doc.getId());
+                } else {
+                    updated.put(doc.getId(), doc.toObject(clazz));
+                }
+            }
+        });
+
+        latch.countDown();
+    }
+
+    private synchronized void update(boolean fromSnapshot, Consumer<Map<String, T>> change) {
+
+        var current = itemPerId;
+
+        if(current == null && !fromSnapshot) {
+            return;
+        }
+
+        var updated = current == null ? new LinkedHashMap<String, T>() : new LinkedHashMap<>(current);
+
+        change.accept(updated);
+
+        itemPerId = Collections.unmodifiableMap(updated);
+    }
+
+}
@@ -1,8 +1,11 @@
 package com.fitmap.function.service;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 
 import com.fitmap.function.config.ValidatorConfig;
@@ -18,20 +21,54 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class CheckConstraintsRequestBodyService {
 
+    private static final ClassValue<Boolean> CONSTRAINED_TYPES = new ClassValue<>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+
+            return ValidatorConfig.VALIDATOR.getConstraintsForClass(type).isBeanConstrained();
+        }
+    };
+
     public static <T> void checkConstraints(T body) {
 
         if(body == null) {
             throw new TerminalException("Request body cannot be null.", HttpStatus.BAD_REQUEST);
         }
 
-        var violations = ValidatorConfig.VALIDATOR.validate(body);
+        if(body instanceof Collection) {
 
-        if (CollectionUtils.isEmpty(violations)) {
+            checkEachConstraints((Collection<?>) body);
+            return;
+        }
 
+        if(body instanceof Object[]) {
+
+            checkEachConstraints(Arrays.asList((Object[]) body));
             return;
         }
 
-        throw new ConstraintViolationException("There are fields errors.", violations);
+        if(!CONSTRAINED_TYPES.get(body.getClass())) {
+            return;
+        }
+
+        throwIfViolated(ValidatorConfig.VALIDATOR.validate(body));
+    }
+
+    public static <T> void checkEachConstraints(Collection<T> coll) {
+
+        if (CollectionUtils.isEmpty(coll)) {
+            return;
+        }
+
+        for (var e : coll) {
+
+            if(e == null) {
+                throw new TerminalException("Request list cannot contain null elements.", HttpStatus.BAD_REQUEST);
+            }
+
+            checkConstraints(e);
+        }
     }
 
     public static <T> void checkNotEmpty(T[] array) {
@@ -72,4 +109,14 @@ public class CheckConstraintsRequestBodyService {
             }
         }
     }
+
+    private static <T> void throwIfViolated(Set<ConstraintViolation<T>> violations) {
+
+        if (CollectionUtils.isEmpty(violations)) {
+
+            return;
+        }
+
+        throw new ConstraintViolationException("There are fields errors.", violations);
+    }
 }
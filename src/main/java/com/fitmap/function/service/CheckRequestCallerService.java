@@ -0,0 +1,45 @@
+package com.fitmap.function.service;
+
+import com.fitmap.function.exception.TerminalException;
+import com.google.auth.oauth2.TokenVerifier;
+import com.google.auth.oauth2.TokenVerifier.VerificationException;
+import com.google.cloud.functions.HttpRequest;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CheckRequestCallerService {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    public static void checkServiceAccount(HttpRequest request, TokenVerifier verifier, String serviceAccount) {
+
+        if(verifier == null || StringUtils.isBlank(serviceAccount)) {
+            throw new TerminalException("No service account is allowed to call this endpoint.", HttpStatus.FORBIDDEN);
+        }
+
+        var token = request.getFirstHeader("Authorization")
+            .filter(header -> StringUtils.startsWithIgnoreCase(header, BEARER_PREFIX))
+            .map(header -> header.substring(BEARER_PREFIX.length()).trim())
+            .filter(StringUtils::isNotBlank)
+            .orElseThrow(() -> new TerminalException("Authorization bearer token is mandatory.", HttpStatus.UNAUTHORIZED));
+
+        try {
+
+            var payload = verifier.verify(token).getPayload();
+
+            if(!serviceAccount.equalsIgnoreCase((String) payload.get("email")) || !Boolean.TRUE.equals(payload.get("email_verified"))) {
+                throw new TerminalException("Caller is not allowed to call this endpoint.", HttpStatus.FORBIDDEN);
+            }
+
+        } catch (VerificationException e) {
+
+            throw new TerminalException("Authorization token is invalid.", HttpStatus.UNAUTHORIZED);
+        }
+    }
+
+}
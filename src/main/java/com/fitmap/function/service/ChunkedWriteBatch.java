@@ -0,0 +1,229 @@
+package com.fitmap.function.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteBatch;
+import com.google.cloud.firestore.WriteResult;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.ToString;
+import lombok.extern.java.Log;
+
+@Log
+public class ChunkedWriteBatch {
+
+    public static final int MAX_OPERATIONS_PER_BATCH = 500;
+
+    private final Firestore db;
+    private final int chunkSize;
+    private final List<List<Operation>> stages = new ArrayList<>();
+
+    public ChunkedWriteBatch(Firestore db) {
+        this(db, MAX_OPERATIONS_PER_BATCH);
+    }
+
+    public ChunkedWriteBatch(Firestore db, int chunkSize) {
+        this.db = db;
+        this.chunkSize = Math.max(1, Math.min(chunkSize, MAX_OPERATIONS_PER_BATCH));
+        this.stages.add(new ArrayList<>());
+    }
+
+    public ChunkedWriteBatch create(DocumentReference docRef, Object data) {
+
+        return add(new Operation(docRef, batch -> batch.create(docRef, data)));
+    }
+
+    public ChunkedWriteBatch then() {
+
+        if(!currentStage().isEmpty()) {
+            stages.add(new ArrayList<>());
+        }
+
+        return this;
+    }
+
+    public Result commit() {
+
+        var operations = stages.stream().flatMap(List::stream).collect(Collectors.toList());
+
+        if(operations.size() <= chunkSize) {
+            return new Result(List.of(commitChunks(0, List.of(operations)).get(0)));
+        }
+
+        var chunkResults = new ArrayList<ChunkResult>();
+
+        for (var stage = 0; stage < stages.size(); stage++) {
+
+            var stageResults = commitChunks(stage, split(stages.get(stage)));
+
+            chunkResults.addAll(stageResults);
+
+            if(stageResults.stream().anyMatch(ChunkResult::isFailed)) {
+                break;
+            }
+        }
+
+        var result = new Result(chunkResults);
+
+        if(result.isFailed()) {
+            rollback(result);
+        }
+
+        return result;
+    }
+
+    @SneakyThrows
+    private List<ChunkResult> commitChunks(int stage, List<List<Operation>> chunks) {
+
+        var startedAt = System.nanoTime();
+        var doneAt = new long[chunks.size()];
+
+        var futures = new ArrayList<ApiFuture<List<WriteResult>>>();
+
+        for (var i = 0; i < chunks.size(); i++) {
+
+            var index = i;
+            var batch = db.batch();
+
+            chunks.get(i).forEach(operation -> operation.writer.accept(batch));
+
+            var future = batch.commit();
+            future.addListener(() -> doneAt[index] = System.nanoTime(), MoreExecutors.directExecutor());
+
+            futures.add(future);
+        }
+
+        ApiFutures.successfulAsList(futures).get();
+
+        var results = new ArrayList<ChunkResult>();
+
+        for (var i = 0; i < chunks.size(); i++) {
+
+            var created = chunks.get(i).stream().map(operation -> operation.created).filter(ref -> ref != null).collect(Collectors.toList());
+
+            Throwable failure = null;
+
+            try {
+                futures.get(i).get();
+            } catch (Exception e) {
+                failure = e.getCause() != null ? e.getCause() : e;
+            }
+
+            var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(doneAt[i] - startedAt);
+
+            var result = new ChunkResult(stage, i, chunks.get(i).size(), elapsedMillis, failure, created);
+
+            if(failure == null) {
+                log.log(Level.INFO, "Write batch chunk committed. " + result);
+            } else {
+                log.log(Level.SEVERE, "Write batch chunk failed. " + result, failure);
+            }
+
+            results.add(result);
+        }
+
+        return results;
+    }
+
+    private void rollback(Result result) {
+
+        var created = result.getChunks()
+            .stream()
+            .filter(chunk -> !chunk.isFailed())
+            .flatMap(chunk -> chunk.getCreated().stream())
+            .map(ref -> new Operation(null, batch -> batch.delete(ref)))
+            .collect(Collectors.toList());
+
+        if(created.isEmpty()) {
+            return;
+        }
+
+        var failed = commitChunks(-1, split(created)).stream().filter(ChunkResult::isFailed).count();
+
+        if(failed > 0) {
+            log.log(Level.SEVERE, "Cannot roll back " + failed + " write batch chunks, created documents were left behind.");
+        }
+    }
+
+    private List<List<Operation>> split(List<Operation> operations) {
+
+        var chunks = new ArrayList<List<Operation>>();
+
+        for (var from = 0; from < operations.size(); from += chunkSize) {
+            chunks.add(operations.subList(from, Math.min(from + chunkSize, operations.size())));
+        }
+
+        return chunks;
+    }
+
+    private ChunkedWriteBatch add(Operation operation) {
+
+        currentStage().add(operation);
+
+        return this;
+    }
+
+    private List<Operation> currentStage() {
+
+        return stages.get(stages.size() - 1);
+    }
+
+    @AllArgsConstructor
+    private static class Operation {
+
+        private final DocumentReference created;
+        private final Consumer<WriteBatch> writer;
+
+    }
+
+    @Getter
+    @ToString(exclude = "created")
+    @AllArgsConstructor
+    public static class ChunkResult {
+
+        private final int stage;
+        private final int chunk;
+        private final int operations;
+        private final long elapsedMillis;
+        private final Throwable failure;
+        private final List<DocumentReference> created;
+
+        public boolean isFailed() {
+
+            return failure != null;
+        }
+
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Result {
+
+        private final List<ChunkResult> chunks;
+
+        public boolean isFailed() {
+
+            return chunks.stream().anyMatch(ChunkResult::isFailed);
+        }
+
+        public Throwable getFirstFailure() {
+
+            return chunks.stream().map(ChunkResult::getFailure).filter(failure -> failure != null).findFirst().orElse(null);
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.fitmap.function.service;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.config.FirebaseAuthConfig;
+import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.ObjectMapperConfig;
+import com.fitmap.function.config.RepositoryConfig;
+import com.fitmap.function.config.SendGridConfig;
+import com.fitmap.function.config.ValidatorConfig;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.java.Log;
+
+@Log
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ColdStartService {
+
+    public enum Client {
+
+        OBJECT_MAPPER(() -> ObjectMapperConfig.RESPONSE_WRITER),
+        REPOSITORIES(() -> RepositoryConfig.REPOSITORY_MODE),
+        FIRESTORE(() -> RepositoryConfig.IN_MEMORY_STORE != null ? null : FirestoreConfig.FIRESTORE),
+        VALIDATOR(() -> ValidatorConfig.VALIDATOR),
+        FIREBASE_AUTH(() -> FirebaseAuthConfig.FIREBASE_AUTH),
+        SEND_GRID(() -> SendGridConfig.SEND_GRID_CLIENT);
+
+        private final Supplier<Object> initializer;
+
+        Client(Supplier<Object> initializer) {
+            this.initializer = initializer;
+        }
+
+    }
+
+    private static final long JVM_START_MILLIS = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    private static final Map<Client, CompletableFuture<Long>> phases = Collections.synchronizedMap(new EnumMap<>(Client.class));
+
+    private static final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        var thread = new Thread(runnable, "cold-start");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public static void prepare(Client... clients) {
+
+        for (var client : clients) {
+            phases.computeIfAbsent(client, c -> CompletableFuture.supplyAsync(() -> initialize(c), executor));
+        }
+    }
+
+    public static Map<Client, Long> timings() {
+
+        synchronized (phases) {
+            return phases
+                .entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().isDone())
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().join(), (a, b) -> a, () -> new EnumMap<>(Client.class)));
+        }
+    }
+
+    private static long initialize(Client client) {
+
+        var startedAt = System.nanoTime();
+
+        try {
+
+            client.initializer.get();
+
+        } catch (Throwable e) {
+
+            log.log(Level.SEVERE, "Cold start phase failed. phase=" + client, e);
+        }
+
+        var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        log.log(Level.INFO, "Cold start phase finished. phase=" + client + ", millis=" + elapsedMillis + ", sinceJvmStartMillis=" + (System.currentTimeMillis() - JVM_START_MILLIS));
+
+        return elapsedMillis;
+    }
+
+}
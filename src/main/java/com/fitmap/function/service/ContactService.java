@@ -9,12 +9,15 @@ import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.RepositoryConfig;
 import com.fitmap.function.domain.Address;
 import com.fitmap.function.domain.Contact;
 import com.fitmap.function.domain.Event;
 import com.fitmap.function.domain.Gym;
 import com.fitmap.function.domain.PersonalTrainer;
 import com.fitmap.function.exception.TerminalException;
+import com.fitmap.function.outbox.CopyWrites;
+import com.fitmap.function.util.ApiFutureUtils;
 import com.google.cloud.firestore.Firestore;
 import com.google.cloud.firestore.WriteBatch;
 
@@ -25,28 +28,27 @@ import org.springframework.http.HttpStatus;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.java.Log;
 
 @Log
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ContactService {
 
-    private static final Firestore db = FirestoreConfig.FIRESTORE;
+    private static Firestore db() {
 
-    @SneakyThrows
-    public static List<Contact> find(String superEntityId, String superCollection) {
+        return FirestoreConfig.FIRESTORE;
+    }
 
-        var docRef = db.collection(superCollection).document(superEntityId).collection(Contact.CONTACTS_COLLECTION);
+    public static List<Contact> find(String superEntityId, String superCollection) {
 
-        return docRef.get().get().toObjects(Contact.class);
+        return ApiFutureUtils.await(RepositoryConfig.CONTACT_REPOSITORY.findBySuperEntity(superCollection, superEntityId));
     }
 
 	public static List<Contact> create(String superEntityId, String superCollection, List<Contact> contacts) {
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var collRef = db.collection(superCollection).document(superEntityId).collection(Contact.CONTACTS_COLLECTION);
+        var collRef = db().collection(superCollection).document(superEntityId).collection(Contact.CONTACTS_COLLECTION);
 
         var subEntitiesPerDocRef = contacts.stream().map(contact -> {
             var ref = collRef.document();
@@ -58,7 +60,7 @@ public class ContactService {
 
         subEntitiesPerDocRef.forEach(pair -> batch.create(pair.getRight(), pair.getLeft()));
 
-        commit(batch);
+        commit(batch, superEntityId, superCollection);
 
         ensureOnlyOneMainContact(superEntityId, superCollection, contacts);
 
@@ -111,12 +113,14 @@ public class ContactService {
             .stream()
             .collect(Collectors.toMap(Address::getId, Function.identity()));
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var superEntityDocRef = db.collection(superCollection).document(superEntityId);
+        var superEntityDocRef = db().collection(superCollection).document(superEntityId);
         var contactsCollection = superEntityDocRef.collection(Contact.CONTACTS_COLLECTION);
         var subEventCollRef = superEntityDocRef.collection(Event.EVENTS_COLLECTION);
-        var superAddressesCollRef = db.collection(Address.ADDRESSES_COLLECTION);
+        var superAddressesCollRef = db().collection(Address.ADDRESSES_COLLECTION);
+
+        var copies = OutboxService.copies(batch);
 
         contacts.forEach(contact -> {
 
@@ -139,7 +143,7 @@ public class ContactService {
                         var superAddress = superAddressPerId.get(event.getAddress().getId());
                         superAddress.getEvents().remove(event);
                         superAddress.getEvents().add(event);
-                        batch.update(superAddressDocRef, Address.EVENTS, superAddress.getEvents());
+                        copies.update(superAddressDocRef, Address.EVENTS, superAddress.getEvents());
                     }
                 });
             }
@@ -149,7 +153,7 @@ public class ContactService {
             batch.update(contactDocRef, fields);
         });
 
-        commit(batch);
+        commit(batch, copies, superEntityId, superCollection);
 
         ensureOnlyOneMainContact(superEntityId, superCollection, contacts);
 
@@ -212,12 +216,14 @@ public class ContactService {
             .stream()
             .collect(Collectors.toMap(Address::getId, Function.identity()));
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var superEntityDocRef = db.collection(superCollection).document(superEntityId);
+        var superEntityDocRef = db().collection(superCollection).document(superEntityId);
         var contactsCollection = superEntityDocRef.collection(Contact.CONTACTS_COLLECTION);
         var subEventCollRef = superEntityDocRef.collection(Event.EVENTS_COLLECTION);
-        var superAddressesCollRef = db.collection(Address.ADDRESSES_COLLECTION);
+        var superAddressesCollRef = db().collection(Address.ADDRESSES_COLLECTION);
+
+        var copies = OutboxService.copies(batch);
 
         contactsIds.forEach(id -> {
 
@@ -237,7 +243,7 @@ public class ContactService {
                         var superAddress = superAddressPerId.get(event.getAddress().getId());
                         superAddress.getEvents().remove(event);
                         superAddress.getEvents().add(event);
-                        batch.update(superAddressDocRef, Address.EVENTS, superAddress.getEvents());
+                        copies.update(superAddressDocRef, Address.EVENTS, superAddress.getEvents());
                     }
                 });
             }
@@ -245,13 +251,21 @@ public class ContactService {
             batch.delete(contactsCollection.document(id));
         });
 
-        commit(batch);
+        commit(batch, copies, superEntityId, superCollection);
     }
 
-    private static void commit(WriteBatch batch) {
+    private static void commit(WriteBatch batch, String superEntityId, String superCollection) {
+
+        commit(batch, CopyWrites.immediate(batch), superEntityId, superCollection);
+    }
+
+    private static void commit(WriteBatch batch, CopyWrites copies, String superEntityId, String superCollection) {
+
+        SuperEntityService.touch(batch, copies, superEntityId, superCollection);
+
         try {
 
-            batch.commit().get();
+            OutboxService.commit(batch, copies);
 
         } catch (Exception e) {
 
@@ -0,0 +1,130 @@
+package com.fitmap.function.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.config.ObjectMapperConfig;
+import com.google.cloud.functions.HttpRequest;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ETagService {
+
+    private static final int ETAG_BYTES = 16;
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY_ETAG = "*";
+
+    public static <T> String fromVersions(Collection<T> entities, Function<T, String> idGetter, Function<T, Date> updatedAtGetter) {
+
+        var digest = newDigest();
+
+        if(CollectionUtils.isNotEmpty(entities)) {
+
+            entities
+                .stream()
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(idGetter, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(entity -> {
+                    var updatedAt = updatedAtGetter.apply(entity);
+                    update(digest, idGetter.apply(entity) + ':' + (updatedAt == null ? "" : Long.toString(updatedAt.getTime())));
+                });
+        }
+
+        return toETag(digest);
+    }
+
+    @SneakyThrows
+    public static String fromCatalog(Map<String, ?> itemPerId) {
+
+        var digest = newDigest();
+
+        for (var entry : new TreeMap<>(itemPerId).entrySet()) {
+            update(digest, entry.getKey());
+            digest.update(ObjectMapperConfig.OBJECT_MAPPER.writeValueAsBytes(entry.getValue()));
+        }
+
+        return toETag(digest);
+    }
+
+    public static String combine(String etag, Collection<String> qualifiers) {
+
+        var digest = newDigest();
+
+        update(digest, etag);
+
+        if(CollectionUtils.isNotEmpty(qualifiers)) {
+            qualifiers.forEach(qualifier -> update(digest, qualifier));
+        }
+
+        return toETag(digest);
+    }
+
+    public static boolean hasIfNoneMatch(HttpRequest request) {
+
+        return request.getFirstHeader(HttpHeaders.IF_NONE_MATCH).filter(StringUtils::isNotBlank).isPresent();
+    }
+
+    public static boolean isNotModified(HttpRequest request, String etag) {
+
+        var ifNoneMatch = request.getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+
+        if(CollectionUtils.isEmpty(ifNoneMatch) || etag == null) {
+            return false;
+        }
+
+        var candidates = ifNoneMatch
+            .stream()
+            .filter(Objects::nonNull)
+            .flatMap(header -> Arrays.stream(StringUtils.split(header, ',')))
+            .map(StringUtils::trim)
+            .collect(Collectors.toList());
+
+        // "*" matches any current representation, and having an etag means there is one
+        if(candidates.contains(ANY_ETAG)) {
+            return true;
+        }
+
+        var opaqueTag = StringUtils.removeStart(etag, WEAK_PREFIX);
+
+        return candidates
+            .stream()
+            .map(candidate -> StringUtils.removeStart(candidate, WEAK_PREFIX))
+            .anyMatch(opaqueTag::equals);
+    }
+
+    @SneakyThrows
+    private static MessageDigest newDigest() {
+
+        return MessageDigest.getInstance("SHA-256");
+    }
+
+    private static void update(MessageDigest digest, String value) {
+
+        digest.update(StringUtils.defaultString(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    // weak because the same tag answers both the gzip and the identity encoding of a body
+    private static String toETag(MessageDigest digest) {
+
+        return WEAK_PREFIX + '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest.digest(), ETAG_BYTES)) + '"';
+    }
+
+}
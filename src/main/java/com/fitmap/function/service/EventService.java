@@ -9,12 +9,14 @@ import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.RepositoryConfig;
 import com.fitmap.function.domain.Address;
 import com.fitmap.function.domain.Event;
 import com.fitmap.function.domain.Gym;
 import com.fitmap.function.domain.PersonalTrainer;
 import com.fitmap.function.exception.TerminalException;
-import com.google.cloud.firestore.FieldValue;
+import com.fitmap.function.outbox.CopyWrites;
+import com.fitmap.function.util.ApiFutureUtils;
 import com.google.cloud.firestore.Firestore;
 import com.google.cloud.firestore.WriteBatch;
 
@@ -24,21 +26,20 @@ import org.springframework.http.HttpStatus;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.java.Log;
 
 @Log
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class EventService {
 
-    private static final Firestore db = FirestoreConfig.FIRESTORE;
+    private static Firestore db() {
 
-    @SneakyThrows
-    public static List<Event> find(String superEntityId, String superCollection) {
+        return FirestoreConfig.FIRESTORE;
+    }
 
-        var docRef = db.collection(superCollection).document(superEntityId).collection(Event.EVENTS_COLLECTION);
+    public static List<Event> find(String superEntityId, String superCollection) {
 
-        return docRef.get().get().toObjects(Event.class);
+        return ApiFutureUtils.await(RepositoryConfig.EVENT_REPOSITORY.findBySuperEntity(superCollection, superEntityId));
     }
 
     public static List<Event> create(String superEntityId, String superCollection, List<Event> events) {
@@ -83,9 +84,9 @@ public class EventService {
             .filter(event -> event.getAddress() != null)
             .collect(Collectors.groupingBy(Event::getAddress));
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var collRef = db.collection(superCollection).document(superEntityId).collection(Event.EVENTS_COLLECTION);
+        var collRef = db().collection(superCollection).document(superEntityId).collection(Event.EVENTS_COLLECTION);
 
         var subEntitiesPerDocRef = events.stream().map(event -> {
             var ref = collRef.document();
@@ -97,16 +98,18 @@ public class EventService {
 
         subEntitiesPerDocRef.forEach(pair -> batch.create(pair.getRight(), pair.getLeft()));
 
-        var addressesCollRef = db.collection(Address.ADDRESSES_COLLECTION);
+        var addressesCollRef = db().collection(Address.ADDRESSES_COLLECTION);
+
+        var copies = OutboxService.copies(batch);
 
         eventsPerAddressIds.forEach((address, eventList) -> {
 
             var addressDocRef = addressesCollRef.document(address.getId());
 
-            batch.update(addressDocRef, Address.EVENTS, FieldValue.arrayUnion(eventList.toArray(Object[]::new)));
+            copies.arrayUnion(addressDocRef, Address.EVENTS, eventList);
         });
 
-        commit(batch);
+        commit(batch, copies, superEntityId, superCollection);
 
         return events;
 
@@ -190,9 +193,9 @@ public class EventService {
 
         var addressPerId = AddressService.findInSuperAddressCollection(new ArrayList<>(addressesIdInvolved)).stream().collect(Collectors.toMap(Address::getId, Function.identity()));
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var eventsCollection = db.collection(superCollection).document(superEntityId).collection(Event.EVENTS_COLLECTION);
+        var eventsCollection = db().collection(superCollection).document(superEntityId).collection(Event.EVENTS_COLLECTION);
 
         events.forEach(event -> {
 
@@ -205,7 +208,9 @@ public class EventService {
             batch.update(docRef, fields);
         });
 
-        var addressesCollRef = db.collection(Address.ADDRESSES_COLLECTION);
+        var addressesCollRef = db().collection(Address.ADDRESSES_COLLECTION);
+
+        var copies = OutboxService.copies(batch);
 
         currentNewEvents.forEach(pair-> {
             var currentEventVersion = pair.getLeft();
@@ -219,29 +224,29 @@ public class EventService {
                 var toAdd = addressPerId.get(newAddress.getId());
                 toAdd.removeEvent(newEventVersion);
                 toAdd.addEvent(newEventVersion);
-                batch.set(addressesCollRef.document(newAddress.getId()), toAdd);
+                copies.set(addressesCollRef.document(newAddress.getId()), toAdd);
 
             } else if(currentAddress != null && newAddress == null) {
 
                 var toRemove = addressPerId.get(currentAddress.getId());
                 toRemove.removeEvent(currentEventVersion);
-                batch.set(addressesCollRef.document(currentAddress.getId()), toRemove);
+                copies.set(addressesCollRef.document(currentAddress.getId()), toRemove);
 
             } else if(currentAddress != null && newAddress != null && !currentAddress.equals(newAddress)) {
 
                 var toRemove = addressPerId.get(currentAddress.getId());
                 toRemove.removeEvent(currentEventVersion);
-                batch.set(addressesCollRef.document(currentAddress.getId()), toRemove);
+                copies.set(addressesCollRef.document(currentAddress.getId()), toRemove);
 
                 var toAdd = addressPerId.get(newAddress.getId());
                 toAdd.removeEvent(newEventVersion);
                 toAdd.addEvent(newEventVersion);
-                batch.set(addressesCollRef.document(newAddress.getId()), toAdd);
+                copies.set(addressesCollRef.document(newAddress.getId()), toAdd);
 
             }
         });
 
-        commit(batch);
+        commit(batch, copies, superEntityId, superCollection);
 
         return events;
 
@@ -288,10 +293,10 @@ public class EventService {
 
         addressPerId.forEach((id, address) -> address.getEvents().removeIf(e -> eventsIds.contains(e.getId())));
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var eventsCollection = db.collection(superCollection).document(superEntityId).collection(Event.EVENTS_COLLECTION);
-        var addressCollRef = db.collection(Address.ADDRESSES_COLLECTION);
+        var eventsCollection = db().collection(superCollection).document(superEntityId).collection(Event.EVENTS_COLLECTION);
+        var addressCollRef = db().collection(Address.ADDRESSES_COLLECTION);
 
         eventsIds.forEach(id -> {
 
@@ -300,15 +305,20 @@ public class EventService {
             batch.delete(docRef);
         });
 
-        addressPerId.forEach((id, address) -> batch.set(addressCollRef.document(id), address));
+        var copies = OutboxService.copies(batch);
+
+        addressPerId.forEach((id, address) -> copies.set(addressCollRef.document(id), address));
 
-        commit(batch);
+        commit(batch, copies, superEntityId, superCollection);
     }
 
-    private static void commit(WriteBatch batch) {
+    private static void commit(WriteBatch batch, CopyWrites copies, String superEntityId, String superCollection) {
+
+        SuperEntityService.touch(batch, copies, superEntityId, superCollection);
+
         try {
 
-            batch.commit().get();
+            OutboxService.commit(batch, copies);
 
         } catch (Exception e) {
 
@@ -1,13 +1,14 @@
 package com.fitmap.function.service;
 
+import com.fitmap.function.config.CacheConfig;
 import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.RepositoryConfig;
 import com.fitmap.function.domain.Fight;
 import com.fitmap.function.exception.TerminalException;
-import com.google.cloud.firestore.FieldPath;
+import com.fitmap.function.repository.CatalogRepository;
 import com.google.cloud.firestore.Firestore;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.java.Log;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.http.HttpStatus;
@@ -20,13 +21,24 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class FightService {
 
-    private static final Firestore db = FirestoreConfig.FIRESTORE;
+    private static final CatalogRepository<Fight> repository = RepositoryConfig.FIGHT_REPOSITORY;
+
+    private static final CatalogReplica<Fight> cache = new CatalogReplica<>(
+        repository.changeFeed(),
+        Fight.class,
+        new CatalogCache<>(repository::findAll, Fight::getId, CacheConfig.CATALOG_CACHE_TTL),
+        CacheConfig.CATALOG_REPLICA_ENABLED);
+
+    private static Firestore db() {
+
+        return FirestoreConfig.FIRESTORE;
+    }
 
     public static List<Fight> create(List<Fight> fights) {
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var collRef = db.collection(Fight.FIGHTS_COLLECTION);
+        var collRef = db().collection(Fight.FIGHTS_COLLECTION);
 
         var fightsPerDocRef = fights.stream().map(fight -> {
             var ref = collRef.document();
@@ -42,6 +54,8 @@ public class FightService {
 
             batch.commit().get();
 
+            cache.written(fights, Fight::getId);
+
             return fights;
 
         } catch (Exception e) {
@@ -52,25 +66,33 @@ public class FightService {
         }
     }
 
-    @SneakyThrows
     public static List<Fight> find(List<String> ids) {
 
-        return db.collection(Fight.FIGHTS_COLLECTION).whereIn(FieldPath.documentId(), ids).get().get().toObjects(Fight.class);
+        return cache.find(ids);
 
     }
 
-    @SneakyThrows
     public static List<Fight> findAll() {
 
-        return db.collection(Fight.FIGHTS_COLLECTION).get().get().toObjects(Fight.class);
+        return cache.findAll();
 
     }
 
+    public static String version() {
+
+        return cache.version();
+    }
+
+    public static void invalidateCache() {
+
+        cache.invalidate();
+    }
+
     public static List<Fight> update(List<Fight> fights) {
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var collRef = db.collection(Fight.FIGHTS_COLLECTION);
+        var collRef = db().collection(Fight.FIGHTS_COLLECTION);
 
         fights.forEach(fight ->  batch
             .update(
@@ -86,6 +108,8 @@ public class FightService {
 
             batch.commit().get();
 
+            cache.written(fights, Fight::getId);
+
             return fights;
 
         } catch (Exception e) {
@@ -99,9 +123,9 @@ public class FightService {
 
     public static void remove(List<String> ids) {
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var collRef = db.collection(Fight.FIGHTS_COLLECTION);
+        var collRef = db().collection(Fight.FIGHTS_COLLECTION);
 
         ids.forEach(id -> batch.delete(collRef.document(id)));
 
@@ -109,6 +133,8 @@ public class FightService {
 
             batch.commit().get();
 
+            cache.removed(ids);
+
         } catch (Exception e) {
 
             log.log(Level.SEVERE, e.getMessage(), e);
@@ -1,11 +1,12 @@
 package com.fitmap.function.service;
 
+import com.fitmap.function.config.CacheConfig;
 import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.RepositoryConfig;
 import com.fitmap.function.domain.Focus;
 import com.fitmap.function.exception.TerminalException;
-import com.google.cloud.firestore.FieldPath;
+import com.fitmap.function.repository.CatalogRepository;
 import com.google.cloud.firestore.Firestore;
-import lombok.SneakyThrows;
 import lombok.extern.java.Log;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.http.HttpStatus;
@@ -18,13 +19,24 @@ import java.util.stream.Collectors;
 public class FocusService {
 
 
-    private static final Firestore db = FirestoreConfig.FIRESTORE;
+    private static final CatalogRepository<Focus> repository = RepositoryConfig.FOCUS_REPOSITORY;
+
+    private static final CatalogReplica<Focus> cache = new CatalogReplica<>(
+        repository.changeFeed(),
+        Focus.class,
+        new CatalogCache<>(repository::findAll, Focus::getId, CacheConfig.CATALOG_CACHE_TTL),
+        CacheConfig.CATALOG_REPLICA_ENABLED);
+
+    private static Firestore db() {
+
+        return FirestoreConfig.FIRESTORE;
+    }
 
     public static List<Focus> create(List<Focus> focus) {
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var collRef = db.collection(Focus.FOCUS_COLLECTION);
+        var collRef = db().collection(Focus.FOCUS_COLLECTION);
 
         var focusPerDocRef = focus.stream().map(f -> {
             var ref = collRef.document();
@@ -40,6 +52,8 @@ public class FocusService {
 
             batch.commit().get();
 
+            cache.written(focus, Focus::getId);
+
             return focus;
 
         } catch (Exception e) {
@@ -50,25 +64,33 @@ public class FocusService {
         }
     }
 
-    @SneakyThrows
     public static List<Focus> find(List<String> ids) {
 
-        return db.collection(Focus.FOCUS_COLLECTION).whereIn(FieldPath.documentId(), ids).get().get().toObjects(Focus.class);
+        return cache.find(ids);
 
     }
 
-    @SneakyThrows
     public static List<Focus> findAll() {
 
-        return db.collection(Focus.FOCUS_COLLECTION).get().get().toObjects(Focus.class);
+        return cache.findAll();
 
     }
 
+    public static String version() {
+
+        return cache.version();
+    }
+
+    public static void invalidateCache() {
+
+        cache.invalidate();
+    }
+
     public static List<Focus> update(List<Focus> focus) {
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var collRef = db.collection(Focus.FOCUS_COLLECTION);
+        var collRef = db().collection(Focus.FOCUS_COLLECTION);
 
         focus.forEach(sport ->  batch
             .update(
@@ -84,6 +106,8 @@ public class FocusService {
 
             batch.commit().get();
 
+            cache.written(focus, Focus::getId);
+
             return focus;
 
         } catch (Exception e) {
@@ -97,9 +121,9 @@ public class FocusService {
 
     public static void remove(List<String> ids) {
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var collRef = db.collection(Focus.FOCUS_COLLECTION);
+        var collRef = db().collection(Focus.FOCUS_COLLECTION);
 
         ids.forEach(id -> batch.delete(collRef.document(id)));
 
@@ -107,6 +131,8 @@ public class FocusService {
 
             batch.commit().get();
 
+            cache.removed(ids);
+
         } catch (Exception e) {
 
             log.log(Level.SEVERE, e.getMessage(), e);
@@ -1,6 +1,7 @@
 package com.fitmap.function.service;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -8,17 +9,22 @@ import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.RepositoryConfig;
 import com.fitmap.function.domain.Address;
 import com.fitmap.function.domain.Contact;
 import com.fitmap.function.domain.Event;
 import com.fitmap.function.domain.Gym;
+import com.fitmap.function.domain.Pin;
 import com.fitmap.function.domain.SubscriptionPlan;
+import com.fitmap.function.domain.constants.HydrationLevel;
 import com.fitmap.function.exception.TerminalException;
+import com.fitmap.function.util.ApiFutureUtils;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
 import com.google.cloud.firestore.DocumentReference;
-import com.google.cloud.firestore.FieldPath;
 import com.google.cloud.firestore.Firestore;
+import com.google.common.util.concurrent.MoreExecutors;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.http.HttpStatus;
@@ -31,7 +37,14 @@ import lombok.extern.java.Log;
 @RequiredArgsConstructor
 public class GymService {
 
-    private static final Firestore db = FirestoreConfig.FIRESTORE;
+    private static final String[] PIN_FIELDS = { Gym.ID, Gym.PROFILE_NAME, Gym.GALLERY_PICTURES_URLS, Gym.SPORTS, Gym.FOCUS, Gym.UPDATED_AT };
+    private static final String[] SUMMARY_FIELDS = { Gym.ID, Gym.PROFILE_NAME, Gym.SPORTS, Gym.FOCUS };
+    private static final String[] VERSION_FIELDS = { Gym.ID, Gym.UPDATED_AT };
+
+    private static Firestore db() {
+
+        return FirestoreConfig.FIRESTORE;
+    }
 
     public static Gym create(Gym gym) {
 
@@ -39,9 +52,7 @@ public class GymService {
         gym.setCreatedAt(now);
         gym.setUpdatedAt(now);
 
-        var batch = db.batch();
-
-        var gymDocRef = db.collection(Gym.GYMS_COLLECTION).document(gym.getId());
+        var gymDocRef = db().collection(Gym.GYMS_COLLECTION).document(gym.getId());
 
         var addressPerDocRef = gym.getAddresses().stream().map(address -> {
             var ref = gymDocRef.collection(Address.ADDRESSES_COLLECTION).document();
@@ -69,127 +80,144 @@ public class GymService {
 
         CheckConstraintsRequestBodyService.checkConstraints(gym);
 
-        var addressesCollRef = db.collection(Address.ADDRESSES_COLLECTION);
+        var addressesCollRef = db().collection(Address.ADDRESSES_COLLECTION);
         var masterAddressPerDocRef = new ArrayList<Pair<Address, DocumentReference>>();
 
-        batch.create(gymDocRef, gym);
+        var writer = new ChunkedWriteBatch(db());
+
         addressPerDocRef.forEach(pair -> {
-            batch.create(pair.getRight(), pair.getLeft());
-            var newAddress = pair.getLeft().withGym(gym);
+            writer.create(pair.getRight(), pair.getLeft());
+            var newAddress = pair.getLeft().withGym(gym).withPin(Pin.from(gym));
             var newAddressDocRef = addressesCollRef.document(newAddress.getId());
             masterAddressPerDocRef.add(Pair.of(newAddress, newAddressDocRef));
         });
-        contactsPerDocRef.forEach(pair -> batch.create(pair.getRight(), pair.getLeft()));
-        eventsPerDocRef.forEach(pair -> batch.create(pair.getRight(), pair.getLeft()));
-        subscriptionPlansPerDocRef.forEach(pair -> batch.create(pair.getRight(), pair.getLeft()));
-        masterAddressPerDocRef.forEach(pair -> batch.create(pair.getRight(), pair.getLeft()));
+        contactsPerDocRef.forEach(pair -> writer.create(pair.getRight(), pair.getLeft()));
+        eventsPerDocRef.forEach(pair -> writer.create(pair.getRight(), pair.getLeft()));
+        subscriptionPlansPerDocRef.forEach(pair -> writer.create(pair.getRight(), pair.getLeft()));
 
-        try {
+        writer.then();
+        masterAddressPerDocRef.forEach(pair -> writer.create(pair.getRight(), pair.getLeft()));
 
-            batch.commit().get();
+        writer.then();
+        writer.create(gymDocRef, gym);
 
-            return gym;
+        var result = writer.commit();
 
-        } catch (Exception e) {
+        if(result.isFailed()) {
+
+            var e = result.getFirstFailure();
 
             log.log(Level.SEVERE, e.getMessage(), e);
 
             throw new TerminalException(e.getMessage(), HttpStatus.CONFLICT);
         }
+
+        return gym;
     }
 
-    @SneakyThrows
     public static List<Gym> find(List<String> gymIds) {
 
-        var gyms = new ArrayList<Gym>();
+        return find(gymIds, HydrationLevel.FULL);
+    }
 
-        db
-                .collection(Gym.GYMS_COLLECTION)
-                .whereIn(FieldPath.documentId(), gymIds)
-                .get()
-                .get()
-                .forEach(queryDocSnapshot -> {
+    public static List<Gym> find(List<String> gymIds, HydrationLevel level) {
 
-                    try {
+        return ApiFutureUtils.await(findAsync(gymIds, level));
+    }
 
-                        var docRef = queryDocSnapshot.getReference();
-                        var contactsColl = docRef.collection(Contact.CONTACTS_COLLECTION).get();
-                        var addressColl = docRef.collection(Address.ADDRESSES_COLLECTION).get();
-                        var eventsColl = docRef.collection(Event.EVENTS_COLLECTION).get();
-                        var subscriptionPlansColl = docRef.collection(SubscriptionPlan.SUBSCRIPTION_PLANS_COLLECTION).get();
+    public static String findETag(List<String> gymIds) {
 
-                        var gym = queryDocSnapshot.toObject(Gym.class);
-                        var contacts = contactsColl.get().toObjects(Contact.class);
-                        var addresses = addressColl.get().toObjects(Address.class);
-                        var events = eventsColl.get().toObjects(Event.class);
-                        var subscriptionPlans = subscriptionPlansColl.get().toObjects(SubscriptionPlan.class);
+        var versions = ApiFutureUtils.await(RepositoryConfig.GYM_REPOSITORY.findByIds(gymIds, VERSION_FIELDS));
 
-                        gym.addContacts(contacts);
-                        gym.addAddresses(addresses);
-                        gym.addEvents(events);
-                        gym.addSubscriptionPlan(subscriptionPlans);
-                        gyms.add(gym);
+        return ETagService.fromVersions(versions, Gym::getId, Gym::getUpdatedAt);
+    }
 
-                    } catch (Exception e) { }
-                });
+    public static ApiFuture<List<Gym>> findAsync(List<String> gymIds, HydrationLevel level) {
 
-        return gyms;
+        var fields = fields(level);
 
-    }
+        var rootFuture = RepositoryConfig.GYM_REPOSITORY.findByIds(gymIds, fields);
 
-    @SneakyThrows
-    public static void updateProps(Gym gym) {
+        return ApiFutures.transformAsync(rootFuture, roots -> {
 
-        var docRef = db.collection(Gym.GYMS_COLLECTION).document(gym.getId());
+            var ids = roots.stream().map(Gym::getId).collect(Collectors.toList());
 
-        var propsToUpdate = new HashMap<String, Object>();
-        propsToUpdate.put(Gym.UPDATED_AT, new Date());
+            var gymFutures = roots.stream().map(root -> hydrate(root, level)).collect(Collectors.toList());
 
-        propsToUpdate.put(Gym.BIOGRAPHY, StringUtils.defaultString(gym.getBiography()));
+            return ApiFutureUtils.allAsListOrPartialFailure(ids, gymFutures, "gym");
 
-        if(StringUtils.isNotBlank(gym.getProfileName())) {
-            propsToUpdate.put(Gym.PROFILE_NAME, gym.getProfileName());
-        }
+        }, MoreExecutors.directExecutor());
+    }
 
-        propsToUpdate.put(Gym.GALLERY_PICTURES_URLS, gym.getGalleryPicturesUrls());
-        propsToUpdate.put(Gym.SPORTS, gym.getSports());
-        propsToUpdate.put(Gym.FOCUS, gym.getFocus());
+    private static String[] fields(HydrationLevel level) {
 
-        docRef.update(propsToUpdate).get();
+        switch (level) {
+            case PIN:
+                return PIN_FIELDS;
+            case SUMMARY:
+                return SUMMARY_FIELDS;
+            default:
+                return new String[0];
+        }
+    }
 
-        var found = find(List.of(gym.getId()));
+    private static ApiFuture<Gym> hydrate(Gym gym, HydrationLevel level) {
 
-        var updated = found.get(0);
+        var id = gym.getId();
 
-        var addresses = updated.getAddresses();
+        var addresses = level.isAtLeast(HydrationLevel.SUMMARY)
+            ? RepositoryConfig.ADDRESS_REPOSITORY.findBySuperEntity(Gym.GYMS_COLLECTION, id, !level.isAtLeast(HydrationLevel.PROFILE))
+            : ApiFutures.<List<Address>>immediateFuture(Collections.emptyList());
 
-        if(CollectionUtils.isEmpty(addresses)) {
-            return;
-        }
+        var contacts = level.isAtLeast(HydrationLevel.PROFILE)
+            ? RepositoryConfig.CONTACT_REPOSITORY.findBySuperEntity(Gym.GYMS_COLLECTION, id)
+            : ApiFutures.<List<Contact>>immediateFuture(Collections.emptyList());
 
-        var batch = db.batch();
+        var events = level.isAtLeast(HydrationLevel.FULL)
+            ? RepositoryConfig.EVENT_REPOSITORY.findBySuperEntity(Gym.GYMS_COLLECTION, id)
+            : ApiFutures.<List<Event>>immediateFuture(Collections.emptyList());
 
-        var addressColl = db.collection(Address.ADDRESSES_COLLECTION);
+        var subscriptionPlans = level.isAtLeast(HydrationLevel.FULL)
+            ? RepositoryConfig.SUBSCRIPTION_PLAN_REPOSITORY.findBySuperEntity(Gym.GYMS_COLLECTION, id)
+            : ApiFutures.<List<SubscriptionPlan>>immediateFuture(Collections.emptyList());
 
-        addresses.forEach(address -> {
+        return ApiFutures.transform(ApiFutures.allAsList(List.of(addresses, contacts, events, subscriptionPlans)), ignored -> {
 
-            var id = address.getId();
+            gym.addAddresses(ApiFutureUtils.getDone(addresses));
+            gym.addContacts(ApiFutureUtils.getDone(contacts));
+            gym.addEvents(ApiFutureUtils.getDone(events));
+            gym.addSubscriptionPlan(ApiFutureUtils.getDone(subscriptionPlans));
 
-            var addressDocRef = addressColl.document(id);
+            return gym;
 
-            batch.update(addressDocRef, Address.GYM, updated);
-        });
+        }, MoreExecutors.directExecutor());
+    }
 
-        try {
+    @SneakyThrows
+    public static void updateProps(Gym gym) {
 
-            batch.commit().get();
+        var docRef = db().collection(Gym.GYMS_COLLECTION).document(gym.getId());
 
-        } catch (Exception e) {
+        var propsToUpdate = new HashMap<String, Object>();
+        propsToUpdate.put(Gym.UPDATED_AT, new Date());
 
-            log.log(Level.SEVERE, e.getMessage(), e);
+        propsToUpdate.put(Gym.BIOGRAPHY, StringUtils.defaultString(gym.getBiography()));
 
-            throw new TerminalException(e.getMessage(), HttpStatus.CONFLICT);
+        if(StringUtils.isNotBlank(gym.getProfileName())) {
+            propsToUpdate.put(Gym.PROFILE_NAME, gym.getProfileName());
         }
+
+        propsToUpdate.put(Gym.GALLERY_PICTURES_URLS, gym.getGalleryPicturesUrls());
+        propsToUpdate.put(Gym.SPORTS, gym.getSports());
+        propsToUpdate.put(Gym.FOCUS, gym.getFocus());
+
+        var batch = db().batch();
+        batch.update(docRef, propsToUpdate);
+
+        var copies = OutboxService.copies(batch);
+        copies.fanOut(docRef, Address.GYM, propsToUpdate);
+
+        OutboxService.commit(batch, copies);
     }
 
 }
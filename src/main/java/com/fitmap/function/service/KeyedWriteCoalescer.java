@@ -0,0 +1,101 @@
+package com.fitmap.function.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import lombok.SneakyThrows;
+
+public class KeyedWriteCoalescer {
+
+    private final Map<String, PendingWrite> pendingPerKey = new HashMap<>();
+    private final Map<String, CompletableFuture<Void>> runningPerKey = new HashMap<>();
+
+    public void submit(String key, Map<String, Object> fields, Consumer<Map<String, Object>> writer) {
+
+        PendingWrite mine;
+
+        synchronized (this) {
+            mine = pendingPerKey.computeIfAbsent(key, k -> new PendingWrite());
+            mine.fields.putAll(fields);
+            mine.submitters++;
+        }
+
+        while (!mine.done.isDone()) {
+
+            CompletableFuture<Void> running;
+            var claimed = false;
+
+            synchronized (this) {
+
+                running = runningPerKey.get(key);
+
+                if(running == null && !mine.done.isDone()) {
+                    pendingPerKey.remove(key, mine);
+                    runningPerKey.put(key, mine.done);
+                    claimed = true;
+                }
+            }
+
+            if(claimed) {
+                write(key, mine, writer);
+            } else if(running != null) {
+                running.handle((ignored, error) -> null).join();
+            }
+        }
+
+        await(mine.done);
+    }
+
+    synchronized int pendingSubmitters(String key) {
+
+        var pending = pendingPerKey.get(key);
+
+        return pending == null ? 0 : pending.submitters;
+    }
+
+    private void write(String key, PendingWrite pending, Consumer<Map<String, Object>> writer) {
+
+        try {
+
+            writer.accept(pending.fields);
+
+            pending.done.complete(null);
+
+        } catch (RuntimeException e) {
+
+            pending.done.completeExceptionally(e);
+
+        } finally {
+
+            synchronized (this) {
+                runningPerKey.remove(key, pending.done);
+            }
+        }
+    }
+
+    @SneakyThrows
+    private static void await(CompletableFuture<Void> done) {
+
+        try {
+
+            done.join();
+
+        } catch (CompletionException e) {
+
+            throw e.getCause();
+        }
+    }
+
+    private static class PendingWrite {
+
+        private final Map<String, Object> fields = new LinkedHashMap<>();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private int submitters;
+
+    }
+
+}
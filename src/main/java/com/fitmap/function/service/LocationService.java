@@ -0,0 +1,117 @@
+package com.fitmap.function.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.domain.Address;
+import com.fitmap.function.domain.Gym;
+import com.fitmap.function.domain.PersonalTrainer;
+import com.fitmap.function.domain.Pin;
+import com.fitmap.function.domain.Student;
+import com.fitmap.function.domain.constants.HydrationLevel;
+import com.fitmap.function.exception.PartialResultException;
+import com.fitmap.function.util.ApiFutureUtils;
+import com.google.api.core.ApiFuture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.java.Log;
+
+@Log
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LocationService {
+
+    public static List<Address> hydrate(List<Address> addresses, HydrationLevel level) {
+
+        var addressesPerGym = groupBy(addresses, Address::getGym);
+        var addressesPerPersonalTrainer = groupBy(addresses, Address::getPersonalTrainer);
+        var addressesPerStudent = groupBy(addresses, Address::getStudent);
+
+        var gymsFuture = GymService.findAsync(ids(addressesPerGym.keySet(), Gym::getId), level);
+        var personalTrainersFuture = PersonalTrainerService.findAsync(ids(addressesPerPersonalTrainer.keySet(), PersonalTrainer::getId), level);
+        var studentsFuture = StudentService.findAsync(ids(addressesPerStudent.keySet(), Student::getId), level);
+
+        awaitAllowingPartialResult(gymsFuture).forEach(gym -> addressesPerGym.get(gym).forEach(a -> a.setGym(gym)));
+        awaitAllowingPartialResult(personalTrainersFuture).forEach(personalTrainer -> addressesPerPersonalTrainer.get(personalTrainer).forEach(a -> a.setPersonalTrainer(personalTrainer)));
+        awaitAllowingPartialResult(studentsFuture).forEach(student -> addressesPerStudent.get(student).forEach(a -> a.setStudent(student)));
+
+        return addresses;
+    }
+
+    public static List<Address> pin(List<Address> addresses) {
+
+        var withoutCurrentPin = addresses
+            .stream()
+            .filter(a -> !Pin.isCurrent(a.getPin()))
+            .collect(Collectors.toList());
+
+        if(!withoutCurrentPin.isEmpty()) {
+
+            hydrate(withoutCurrentPin, HydrationLevel.PIN);
+
+            withoutCurrentPin.forEach(a -> a.setPin(createPin(a)));
+        }
+
+        addresses.forEach(a -> {
+            a.setGym(null);
+            a.setPersonalTrainer(null);
+            a.setStudent(null);
+            a.setEvents(null);
+        });
+
+        return addresses;
+    }
+
+    private static Pin createPin(Address address) {
+
+        if(address.getGym() != null) {
+            return Pin.from(address.getGym());
+        }
+
+        if(address.getPersonalTrainer() != null) {
+            return Pin.from(address.getPersonalTrainer());
+        }
+
+        return Pin.from(address.getStudent());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> awaitAllowingPartialResult(ApiFuture<List<T>> future) {
+
+        try {
+
+            return ApiFutureUtils.await(future);
+
+        } catch (PartialResultException e) {
+
+            log.log(Level.WARNING, "Answering locations with embedded copies for " + e.getFailedIds() + ".");
+
+            return (List<T>) e.getPartialResult();
+        }
+    }
+
+    private static <T> Map<T, List<Address>> groupBy(List<Address> addresses, Function<Address, T> entityGetter) {
+
+        return addresses
+            .stream()
+            .filter(Objects::nonNull)
+            .filter(a -> entityGetter.apply(a) != null)
+            .collect(Collectors.groupingBy(entityGetter));
+    }
+
+    private static <T> List<String> ids(Collection<T> entities, Function<T, String> idGetter) {
+
+        return entities
+            .stream()
+            .map(idGetter)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.fitmap.function.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.RepositoryConfig;
+import com.fitmap.function.domain.Address;
+import com.fitmap.function.domain.Pin;
+import com.fitmap.function.exception.TerminalException;
+import com.fitmap.function.util.ApiFutureUtils;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteBatch;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.java.Log;
+
+@Log
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MasterAddressFanOutService {
+
+    private static final KeyedWriteCoalescer coalescer = new KeyedWriteCoalescer();
+
+    private static Firestore db() {
+
+        return FirestoreConfig.FIRESTORE;
+    }
+
+    public static void fanOut(String superCollection, String superEntityId, String embeddedField, Map<String, Object> ownerProps) {
+
+        coalescer.submit(superCollection + "/" + superEntityId, fields(embeddedField, ownerProps), merged -> write(superCollection, superEntityId, merged));
+    }
+
+    public static void addFanOut(Supplier<WriteBatch> batches, String superCollection, String superEntityId, String embeddedField, Map<String, Object> ownerProps) {
+
+        addUpdates(batches, superCollection, superEntityId, fields(embeddedField, ownerProps));
+    }
+
+    private static Map<String, Object> fields(String embeddedField, Map<String, Object> ownerProps) {
+
+        var fields = new HashMap<String, Object>();
+
+        ownerProps.forEach((field, value) -> fields.put(embeddedField + "." + field, value));
+        Pin.changesFrom(embeddedField, ownerProps).forEach((field, value) -> fields.put(Address.PIN + "." + field, value));
+
+        return fields;
+    }
+
+    private static int addUpdates(Supplier<WriteBatch> batches, String superCollection, String superEntityId, Map<String, Object> fields) {
+
+        var addresses = ApiFutureUtils.await(RepositoryConfig.ADDRESS_REPOSITORY.findBySuperEntity(superCollection, superEntityId, false));
+
+        var addressColl = db().collection(Address.ADDRESSES_COLLECTION);
+
+        addresses.forEach(address -> batches.get().update(addressColl.document(address.getId()), fields));
+
+        return addresses.size();
+    }
+
+    private static void write(String superCollection, String superEntityId, Map<String, Object> fields) {
+
+        var batch = db().batch();
+
+        if(addUpdates(() -> batch, superCollection, superEntityId, fields) == 0) {
+            return;
+        }
+
+        try {
+
+            batch.commit().get();
+
+        } catch (Exception e) {
+
+            log.log(Level.SEVERE, e.getMessage(), e);
+
+            throw new TerminalException(e.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.fitmap.function.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.OutboxConfig;
+import com.fitmap.function.outbox.CopyWrite;
+import com.fitmap.function.outbox.CopyWrites;
+import com.fitmap.function.outbox.OutboxMessage;
+import com.fitmap.function.outbox.WriteBatches;
+import com.google.cloud.firestore.FieldValue;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteBatch;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class OutboxService {
+
+    private static Firestore db() {
+
+        return FirestoreConfig.FIRESTORE;
+    }
+
+    public static CopyWrites copies(WriteBatch batch) {
+
+        return OutboxConfig.OUTBOX == null ? CopyWrites.immediate(batch) : CopyWrites.deferred();
+    }
+
+    @SneakyThrows
+    public static void commit(WriteBatch batch, CopyWrites copies) {
+
+        var writes = copies.getWrites();
+
+        if(!copies.isDeferred() || writes.isEmpty()) {
+
+            batch.commit().get();
+
+            writes.forEach(OutboxService::fanOutNow);
+
+            return;
+        }
+
+        var outbox = OutboxConfig.OUTBOX;
+        var message = OutboxMessage.of(copies.getOwner(), writes);
+
+        outbox.stage(batch, message);
+
+        batch.commit().get();
+
+        outbox.publish(message);
+    }
+
+    public static int drain(int limit) {
+
+        return OutboxConfig.OUTBOX == null ? 0 : OutboxConfig.OUTBOX.drain(limit);
+    }
+
+    @SneakyThrows
+    public static boolean deliver(OutboxMessage message) {
+
+        var batches = new WriteBatches(db(), ChunkedWriteBatch.MAX_OPERATIONS_PER_BATCH);
+
+        addWrites(message, batches);
+
+        for (var batch : batches.getBatches()) {
+            batch.commit().get();
+        }
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void addWrites(OutboxMessage message, Supplier<WriteBatch> batches) {
+
+        for (var write : message.getWrites()) {
+
+            var docRef = db().document(write.getPath());
+
+            switch (write.getOperation()) {
+                case SET:
+                    batches.get().set(docRef, write.getData());
+                    break;
+                case UPDATE:
+                    batches.get().update(docRef, (Map<String, Object>) write.getData());
+                    break;
+                case ARRAY_UNION:
+                    batches.get().update(docRef, write.getField(), FieldValue.arrayUnion(((List<?>) write.getData()).toArray()));
+                    break;
+                case FAN_OUT:
+                    MasterAddressFanOutService.addFanOut(batches, docRef.getParent().getId(), docRef.getId(), write.getField(), (Map<String, Object>) write.getData());
+                    break;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void fanOutNow(CopyWrite write) {
+
+        var ownerRef = db().document(write.getPath());
+
+        MasterAddressFanOutService.fanOut(ownerRef.getParent().getId(), ownerRef.getId(), write.getField(), (Map<String, Object>) write.getData());
+    }
+
+}
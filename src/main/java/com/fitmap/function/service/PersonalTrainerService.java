@@ -1,6 +1,7 @@
 package com.fitmap.function.service;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -8,17 +9,22 @@ import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.RepositoryConfig;
 import com.fitmap.function.domain.Address;
 import com.fitmap.function.domain.Contact;
 import com.fitmap.function.domain.Event;
 import com.fitmap.function.domain.PersonalTrainer;
+import com.fitmap.function.domain.Pin;
 import com.fitmap.function.domain.SubscriptionPlan;
+import com.fitmap.function.domain.constants.HydrationLevel;
 import com.fitmap.function.exception.TerminalException;
+import com.fitmap.function.util.ApiFutureUtils;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
 import com.google.cloud.firestore.DocumentReference;
-import com.google.cloud.firestore.FieldPath;
 import com.google.cloud.firestore.Firestore;
+import com.google.common.util.concurrent.MoreExecutors;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.http.HttpStatus;
@@ -31,7 +37,14 @@ import lombok.extern.java.Log;
 @RequiredArgsConstructor
 public class PersonalTrainerService {
 
-    private static final Firestore db = FirestoreConfig.FIRESTORE;
+    private static final String[] PIN_FIELDS = { PersonalTrainer.ID, PersonalTrainer.PROFILE_NAME, PersonalTrainer.GALLERY_PICTURES_URLS, PersonalTrainer.SPORTS, PersonalTrainer.FIGHTS, PersonalTrainer.FOCUS, PersonalTrainer.ONLINE_SERVICE, PersonalTrainer.HOME_SERVICE, PersonalTrainer.UPDATED_AT };
+    private static final String[] SUMMARY_FIELDS = { PersonalTrainer.ID, PersonalTrainer.PROFILE_NAME, PersonalTrainer.SPORTS, PersonalTrainer.FIGHTS, PersonalTrainer.FOCUS };
+    private static final String[] VERSION_FIELDS = { PersonalTrainer.ID, PersonalTrainer.UPDATED_AT };
+
+    private static Firestore db() {
+
+        return FirestoreConfig.FIRESTORE;
+    }
 
     public static PersonalTrainer create(PersonalTrainer personalTrainer) {
 
@@ -39,9 +52,7 @@ public class PersonalTrainerService {
         personalTrainer.setCreatedAt(now);
         personalTrainer.setUpdatedAt(now);
 
-        var batch = db.batch();
-
-        var personalTrainerDocRef = db.collection(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION).document(personalTrainer.getId());
+        var personalTrainerDocRef = db().collection(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION).document(personalTrainer.getId());
 
         var addressPerDocRef = personalTrainer.getAddresses().stream().map(address -> {
             var ref = personalTrainerDocRef.collection(Address.ADDRESSES_COLLECTION).document();
@@ -69,78 +80,123 @@ public class PersonalTrainerService {
 
         CheckConstraintsRequestBodyService.checkConstraints(personalTrainer);
 
-        var addressesCollRef = db.collection(Address.ADDRESSES_COLLECTION);
+        var addressesCollRef = db().collection(Address.ADDRESSES_COLLECTION);
         var masterAddressPerDocRef = new ArrayList<Pair<Address, DocumentReference>>();
 
-        batch.create(personalTrainerDocRef, personalTrainer);
+        var writer = new ChunkedWriteBatch(db());
+
         addressPerDocRef.forEach(pair -> {
-            batch.create(pair.getRight(), pair.getLeft());
-            var newAddress = pair.getLeft().withPersonalTrainer(personalTrainer);
+            writer.create(pair.getRight(), pair.getLeft());
+            var newAddress = pair.getLeft().withPersonalTrainer(personalTrainer).withPin(Pin.from(personalTrainer));
             var newAddressDocRef = addressesCollRef.document(newAddress.getId());
             masterAddressPerDocRef.add(Pair.of(newAddress, newAddressDocRef));
         });
-        contactsPerDocRef.forEach(pair -> batch.create(pair.getRight(), pair.getLeft()));
-        eventsPerDocRef.forEach(pair -> batch.create(pair.getRight(), pair.getLeft()));
-        subscriptionPlansPerDocRef.forEach(pair -> batch.create(pair.getRight(), pair.getLeft()));
-        masterAddressPerDocRef.forEach(pair -> batch.create(pair.getRight(), pair.getLeft()));
+        contactsPerDocRef.forEach(pair -> writer.create(pair.getRight(), pair.getLeft()));
+        eventsPerDocRef.forEach(pair -> writer.create(pair.getRight(), pair.getLeft()));
+        subscriptionPlansPerDocRef.forEach(pair -> writer.create(pair.getRight(), pair.getLeft()));
 
-        try {
+        writer.then();
+        masterAddressPerDocRef.forEach(pair -> writer.create(pair.getRight(), pair.getLeft()));
 
-            batch.commit().get();
+        writer.then();
+        writer.create(personalTrainerDocRef, personalTrainer);
 
-            return personalTrainer;
+        var result = writer.commit();
+
+        if(result.isFailed()) {
 
-        } catch (Exception e) {
+            var e = result.getFirstFailure();
 
             log.log(Level.SEVERE, e.getMessage(), e);
 
             throw new TerminalException(e.getMessage(), HttpStatus.CONFLICT);
         }
+
+        return personalTrainer;
     }
 
-    @SneakyThrows
     public static List<PersonalTrainer> find(List<String> personalTrainerIds) {
 
-        var personalTrainers = new ArrayList<PersonalTrainer>();
+        return find(personalTrainerIds, HydrationLevel.FULL);
+    }
+
+    public static List<PersonalTrainer> find(List<String> personalTrainerIds, HydrationLevel level) {
+
+        return ApiFutureUtils.await(findAsync(personalTrainerIds, level));
+    }
+
+    public static String findETag(List<String> personalTrainerIds) {
+
+        var versions = ApiFutureUtils.await(RepositoryConfig.PERSONAL_TRAINER_REPOSITORY.findByIds(personalTrainerIds, VERSION_FIELDS));
+
+        return ETagService.fromVersions(versions, PersonalTrainer::getId, PersonalTrainer::getUpdatedAt);
+    }
 
-        db
-                .collection(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION)
-                .whereIn(FieldPath.documentId(), personalTrainerIds)
-                .get()
-                .get()
-                .forEach(queryDocSnapshot -> {
+    public static ApiFuture<List<PersonalTrainer>> findAsync(List<String> personalTrainerIds, HydrationLevel level) {
 
-                    try {
+        var fields = fields(level);
 
-                        var docRef = queryDocSnapshot.getReference();
-                        var contactsColl = docRef.collection(Contact.CONTACTS_COLLECTION).get();
-                        var addressColl = docRef.collection(Address.ADDRESSES_COLLECTION).get();
-                        var eventsColl = docRef.collection(Event.EVENTS_COLLECTION).get();
-                        var subscriptionPlansColl = docRef.collection(SubscriptionPlan.SUBSCRIPTION_PLANS_COLLECTION).get();
+        var rootFuture = RepositoryConfig.PERSONAL_TRAINER_REPOSITORY.findByIds(personalTrainerIds, fields);
 
-                        var personalTrainer = queryDocSnapshot.toObject(PersonalTrainer.class);
-                        var contacts = contactsColl.get().toObjects(Contact.class);
-                        var addresses = addressColl.get().toObjects(Address.class);
-                        var events = eventsColl.get().toObjects(Event.class);
-                        var subscriptionPlans = subscriptionPlansColl.get().toObjects(SubscriptionPlan.class);
+        return ApiFutures.transformAsync(rootFuture, roots -> {
 
-                        personalTrainer.addContacts(contacts);
-                        personalTrainer.addAddresses(addresses);
-                        personalTrainer.addEvents(events);
-                        personalTrainer.addSubscriptionPlan(subscriptionPlans);
-                        personalTrainers.add(personalTrainer);
+            var ids = roots.stream().map(PersonalTrainer::getId).collect(Collectors.toList());
 
-                    } catch (Exception e) { }
-                });
+            var personalTrainerFutures = roots.stream().map(root -> hydrate(root, level)).collect(Collectors.toList());
 
-        return personalTrainers;
+            return ApiFutureUtils.allAsListOrPartialFailure(ids, personalTrainerFutures, "personal trainer");
 
+        }, MoreExecutors.directExecutor());
+    }
+
+    private static String[] fields(HydrationLevel level) {
+
+        switch (level) {
+            case PIN:
+                return PIN_FIELDS;
+            case SUMMARY:
+                return SUMMARY_FIELDS;
+            default:
+                return new String[0];
+        }
+    }
+
+    private static ApiFuture<PersonalTrainer> hydrate(PersonalTrainer personalTrainer, HydrationLevel level) {
+
+        var id = personalTrainer.getId();
+
+        var addresses = level.isAtLeast(HydrationLevel.SUMMARY)
+            ? RepositoryConfig.ADDRESS_REPOSITORY.findBySuperEntity(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION, id, !level.isAtLeast(HydrationLevel.PROFILE))
+            : ApiFutures.<List<Address>>immediateFuture(Collections.emptyList());
+
+        var contacts = level.isAtLeast(HydrationLevel.PROFILE)
+            ? RepositoryConfig.CONTACT_REPOSITORY.findBySuperEntity(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION, id)
+            : ApiFutures.<List<Contact>>immediateFuture(Collections.emptyList());
+
+        var events = level.isAtLeast(HydrationLevel.FULL)
+            ? RepositoryConfig.EVENT_REPOSITORY.findBySuperEntity(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION, id)
+            : ApiFutures.<List<Event>>immediateFuture(Collections.emptyList());
+
+        var subscriptionPlans = level.isAtLeast(HydrationLevel.FULL)
+            ? RepositoryConfig.SUBSCRIPTION_PLAN_REPOSITORY.findBySuperEntity(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION, id)
+            : ApiFutures.<List<SubscriptionPlan>>immediateFuture(Collections.emptyList());
+
+        return ApiFutures.transform(ApiFutures.allAsList(List.of(addresses, contacts, events, subscriptionPlans)), ignored -> {
+
+            personalTrainer.addAddresses(ApiFutureUtils.getDone(addresses));
+            personalTrainer.addContacts(ApiFutureUtils.getDone(contacts));
+            personalTrainer.addEvents(ApiFutureUtils.getDone(events));
+            personalTrainer.addSubscriptionPlan(ApiFutureUtils.getDone(subscriptionPlans));
+
+            return personalTrainer;
+
+        }, MoreExecutors.directExecutor());
     }
 
     @SneakyThrows
     public static void updateProps(PersonalTrainer personalTrainer) {
 
-        var docRef = db.collection(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION).document(personalTrainer.getId());
+        var docRef = db().collection(PersonalTrainer.PERSONAL_TRAINERS_COLLECTION).document(personalTrainer.getId());
 
         var propsToUpdate = new HashMap<String, Object>();
         propsToUpdate.put(PersonalTrainer.UPDATED_AT, new Date());
@@ -168,41 +224,13 @@ public class PersonalTrainerService {
             propsToUpdate.put(PersonalTrainer.BUSY_SCHEDULE, personalTrainer.getBusySchedule());
         }
 
-        docRef.update(propsToUpdate).get();
-
-        var found = find(List.of(personalTrainer.getId()));
-
-        var updated = found.get(0);
-
-        var addresses = updated.getAddresses();
-
-        if(CollectionUtils.isEmpty(addresses)) {
-            return;
-        }
-
-        var batch = db.batch();
+        var batch = db().batch();
+        batch.update(docRef, propsToUpdate);
 
-        var addressColl = db.collection(Address.ADDRESSES_COLLECTION);
+        var copies = OutboxService.copies(batch);
+        copies.fanOut(docRef, Address.PERSONAL_TRAINER, propsToUpdate);
 
-        addresses.forEach(address -> {
-
-            var id = address.getId();
-
-            var addressDocRef = addressColl.document(id);
-
-            batch.update(addressDocRef, Address.PERSONAL_TRAINER, updated);
-        });
-
-        try {
-
-            batch.commit().get();
-
-        } catch (Exception e) {
-
-            log.log(Level.SEVERE, e.getMessage(), e);
-
-            throw new TerminalException(e.getMessage(), HttpStatus.CONFLICT);
-        }
+        OutboxService.commit(batch, copies);
     }
 
 }
@@ -23,7 +23,7 @@ public class ReadRequestService {
 
         try {
 
-            return ObjectMapperConfig.OBJECT_MAPPER.readValue(request.getInputStream(), clazz);
+            return ObjectMapperConfig.readerFor(clazz).readValue(request.getInputStream());
 
         } catch (Exception e) {
 
@@ -0,0 +1,251 @@
+package com.fitmap.function.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fitmap.function.config.CompressionConfig;
+import com.google.cloud.functions.HttpRequest;
+import com.google.cloud.functions.HttpResponse;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.http.HttpHeaders;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ResponseCompressionService {
+
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final String IDENTITY = "identity";
+    private static final String ANY = "*";
+
+    private static final Map<String, String> SUPPORTED_CODINGS = Map.of(
+        GZIP, GZIP,
+        "x-gzip", GZIP,
+        DEFLATE, DEFLATE);
+
+    private static final List<String> PREFERRED_ENCODINGS = List.of(GZIP, DEFLATE);
+
+    public static OutputStream openOutputStream(HttpRequest request, HttpResponse response) {
+
+        if(!CompressionConfig.RESPONSE_COMPRESSION_ENABLED) {
+            return new NegotiatedOutputStream(response, null);
+        }
+
+        response.appendHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        return new NegotiatedOutputStream(response, negotiateEncoding(request).orElse(null));
+    }
+
+    public static Optional<String> negotiateEncoding(HttpRequest request) {
+
+        var acceptEncoding = request.getFirstHeader(HttpHeaders.ACCEPT_ENCODING);
+
+        if(acceptEncoding.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var qualityPerCoding = new HashMap<String, Double>();
+
+        for (var token : StringUtils.split(acceptEncoding.get(), ',')) {
+
+            var parts = StringUtils.split(token, ';');
+
+            if(parts.length == 0) {
+                continue;
+            }
+
+            var coding = StringUtils.trim(parts[0]).toLowerCase(Locale.ROOT);
+
+            qualityPerCoding.put(SUPPORTED_CODINGS.getOrDefault(coding, coding), getQuality(parts));
+        }
+
+        // codings not listed take the quality of "*", or are not acceptable when there is no "*"
+        var anyQuality = qualityPerCoding.getOrDefault(ANY, 0d);
+        var identityQuality = qualityPerCoding.getOrDefault(IDENTITY, 0d);
+
+        String chosen = null;
+        var chosenQuality = 0d;
+
+        for (var encoding : PREFERRED_ENCODINGS) {
+
+            var quality = qualityPerCoding.getOrDefault(encoding, anyQuality);
+
+            if(quality > chosenQuality) {
+                chosen = encoding;
+                chosenQuality = quality;
+            }
+        }
+
+        if(chosen == null || chosenQuality < identityQuality) {
+            return Optional.empty();
+        }
+
+        return Optional.of(chosen);
+    }
+
+    private static double getQuality(String[] parts) {
+
+        for (var i = 1; i < parts.length; i++) {
+
+            var param = StringUtils.deleteWhitespace(parts[i]);
+
+            if(StringUtils.startsWithIgnoreCase(param, "q=")) {
+                return NumberUtils.toDouble(param.substring(2), 0);
+            }
+        }
+
+        return 1;
+    }
+
+    private static class NegotiatedOutputStream extends OutputStream {
+
+        private final HttpResponse response;
+        private final String encoding;
+        private final byte[] buffer;
+
+        private int count;
+        private OutputStream target;
+        private DeflaterOutputStream compressor;
+        private Deflater deflater;
+        private boolean closed;
+
+        NegotiatedOutputStream(HttpResponse response, String encoding) {
+
+            this.response = response;
+            this.encoding = encoding;
+            this.buffer = encoding == null ? null : new byte[CompressionConfig.RESPONSE_COMPRESSION_MIN_SIZE_BYTES];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+
+            if(target == null) {
+
+                if(encoding != null && count + len <= buffer.length) {
+                    System.arraycopy(b, off, buffer, count, len);
+                    count += len;
+                    return;
+                }
+
+                startBody();
+            }
+
+            target.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+
+            if(target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            if(closed) {
+                return;
+            }
+
+            closed = true;
+
+            if(target == null) {
+
+                if(count > 0) {
+                    response.getOutputStream().write(buffer, 0, count);
+                }
+
+                response.getOutputStream().flush();
+
+                return;
+            }
+
+            try {
+
+                if(compressor != null) {
+                    compressor.finish();
+                }
+
+                target.flush();
+
+            } finally {
+
+                if(deflater != null) {
+                    deflater.end();
+                }
+            }
+        }
+
+        private void startBody() throws IOException {
+
+            if(encoding == null) {
+                target = response.getOutputStream();
+                return;
+            }
+
+            // headers are committed by the first getOutputStream call
+            response.appendHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+
+            var out = response.getOutputStream();
+
+            if(GZIP.equals(encoding)) {
+
+                var gzip = new LeveledGZIPOutputStream(out, CompressionConfig.RESPONSE_COMPRESSION_LEVEL);
+
+                deflater = gzip.getDeflater();
+                compressor = gzip;
+
+            } else {
+
+                deflater = new Deflater(CompressionConfig.RESPONSE_COMPRESSION_LEVEL);
+                compressor = new DeflaterOutputStream(out, deflater, BUFFER_SIZE);
+            }
+
+            target = compressor;
+
+            if(count > 0) {
+                compressor.write(buffer, 0, count);
+            }
+        }
+
+    }
+
+    private static class LeveledGZIPOutputStream extends GZIPOutputStream {
+
+        LeveledGZIPOutputStream(OutputStream out, int level) throws IOException {
+
+            super(out, BUFFER_SIZE);
+
+            def.setLevel(level);
+        }
+
+        Deflater getDeflater() {
+
+            return def;
+        }
+
+    }
+
+}
@@ -1,6 +1,5 @@
 package com.fitmap.function.service;
 
-import java.io.PrintWriter;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -8,12 +7,15 @@ import java.util.Map;
 
 import javax.validation.ConstraintViolationException;
 
+import com.fitmap.function.config.CachePolicyConfig;
 import com.fitmap.function.config.ObjectMapperConfig;
 import com.fitmap.function.exception.TerminalException;
 import com.fitmap.function.v2.payload.response.ErrorResponse;
 import com.google.cloud.functions.HttpRequest;
 import com.google.cloud.functions.HttpResponse;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -31,67 +33,67 @@ public class ResponseService {
 
         var status = e.getStatus();
 
-        fillResponseWithStatus(response, status);
+        fillResponseWithStatus(request, response, status);
 
         var error = createErrorResponse(request, status);
         error.setMessage(e.getMessage());
 
-        writeError(response, error);
+        writeError(request, response, error);
     }
 
     public static void answerMethodNotAllowed(HttpRequest request, HttpResponse response, MethodNotAllowedException e) {
 
         var status = HttpStatus.METHOD_NOT_ALLOWED;
 
-        fillResponseWithStatus(response, status);
+        fillResponseWithStatus(request, response, status);
 
         var error = createErrorResponse(request, status);
         error.setMessage(e.getMessage() + ". Allowed methods are " + e.getSupportedMethods());
 
-        writeError(response, error);
+        writeError(request, response, error);
     }
 
     public static void answerUnsupportedMediaType(HttpRequest request, HttpResponse response, UnsupportedMediaTypeStatusException e) {
 
         var status = HttpStatus.UNSUPPORTED_MEDIA_TYPE;
 
-        fillResponseWithStatus(response, status);
+        fillResponseWithStatus(request, response, status);
 
         var error = createErrorResponse(request, status);
         error.setMessage(e.getMessage() + ". Allowed Content-Type are " + e.getSupportedMediaTypes());
 
-        writeError(response, error);
+        writeError(request, response, error);
     }
 
     public static void answerInternalServerError(HttpRequest request, HttpResponse response, Exception e) {
 
         var status = HttpStatus.INTERNAL_SERVER_ERROR;
 
-        fillResponseWithStatus(response, status);
+        fillResponseWithStatus(request, response, status);
 
         var error = createErrorResponse(request, status);
         error.setMessage(e.getMessage());
 
-        writeError(response, error);
+        writeError(request, response, error);
     }
 
     public static void answerBadRequest(HttpRequest request, HttpResponse response, HttpMessageNotReadableException e) {
 
         var status = HttpStatus.BAD_REQUEST;
 
-        fillResponseWithStatus(response, status);
+        fillResponseWithStatus(request, response, status);
 
         var error = createErrorResponse(request, status);
         error.setMessage(e.getMessage());
 
-        writeError(response, error);
+        writeError(request, response, error);
     }
 
     public static void answerBadRequest(HttpRequest request, HttpResponse response, ConstraintViolationException e) {
 
         var status = HttpStatus.BAD_REQUEST;
 
-        fillResponseWithStatus(response, status);
+        fillResponseWithStatus(request, response, status);
 
         var error = createErrorResponse(request, status);
         error.setMessage(e.getMessage());
@@ -110,31 +112,75 @@ public class ResponseService {
 
         error.setErrors(errors);
 
-        writeError(response, error);
+        writeError(request, response, error);
     }
 
-    public static void writeError(HttpResponse response, ErrorResponse error) {
+    public static void writeError(HttpRequest request, HttpResponse response, ErrorResponse error) {
 
-        writeResponse(response, error);
+        writeResponse(request, response, error);
     }
 
     @SneakyThrows
-    public static <T> void writeResponse(HttpResponse response, T body) {
+    public static <T> void writeResponse(HttpRequest request, HttpResponse response, T body) {
 
-        var writer = new PrintWriter(response.getWriter());
+        var writer = body == null ? ObjectMapperConfig.RESPONSE_WRITER : ObjectMapperConfig.writerFor(body.getClass());
 
-        writer.print(ObjectMapperConfig.OBJECT_MAPPER.writeValueAsString(body));
+        try (var output = ResponseCompressionService.openOutputStream(request, response)) {
+
+            writer.writeValue(output, body);
+        }
+    }
+
+    public static void answerNotModified(HttpRequest request, HttpResponse response, String etag) {
+
+        response.setStatusCode(HttpStatus.NOT_MODIFIED.value());
+        setETag(response, etag);
+        setCacheControl(request, response, HttpStatus.NOT_MODIFIED);
+    }
+
+    public static void setETag(HttpResponse response, String etag) {
+
+        setHeader(response, HttpHeaders.ETAG, etag);
+    }
+
+    public static void setHeader(HttpResponse response, String header, String value) {
+
+        if(response instanceof BufferedHeadersResponse) {
+            ((BufferedHeadersResponse) response).setHeader(header, value);
+        } else {
+            response.appendHeader(header, value);
+        }
     }
 
-    public static void fillResponseWithStatus(HttpResponse response, HttpStatus status, String contentType) {
+    public static void discardSuccessHeaders(HttpResponse response) {
+
+        if(response instanceof BufferedHeadersResponse) {
+            ((BufferedHeadersResponse) response).removeHeader(HttpHeaders.ETAG);
+            ((BufferedHeadersResponse) response).removeHeader(HttpHeaders.CACHE_CONTROL);
+        }
+    }
+
+    public static void fillResponseWithStatus(HttpRequest request, HttpResponse response, HttpStatus status, String contentType) {
 
         response.setStatusCode(status.value());
         response.setContentType(contentType);
+        setCacheControl(request, response, status);
     }
 
-    public static void fillResponseWithStatus(HttpResponse response, HttpStatus status) {
+    public static void fillResponseWithStatus(HttpRequest request, HttpResponse response, HttpStatus status) {
+
+        fillResponseWithStatus(request, response, status, MediaType.APPLICATION_JSON_UTF8_VALUE);
+    }
+
+    public static void setCacheControl(HttpRequest request, HttpResponse response, HttpStatus status) {
+
+        var cacheable = HttpMethod.GET.matches(request.getMethod()) && (status == HttpStatus.OK || status == HttpStatus.NOT_MODIFIED);
+
+        var cacheControl = cacheable
+            ? CachePolicyConfig.GET_CACHE_CONTROL_PER_PATH.getOrDefault(request.getPath(), CachePolicyConfig.NO_STORE)
+            : CachePolicyConfig.NO_STORE;
 
-        fillResponseWithStatus(response, status, MediaType.APPLICATION_JSON_UTF8_VALUE);
+        setHeader(response, HttpHeaders.CACHE_CONTROL, cacheControl);
     }
 
     public static ErrorResponse createErrorResponse(HttpRequest request, HttpStatus status) {
@@ -4,10 +4,12 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
+import com.fitmap.function.config.CacheConfig;
 import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.RepositoryConfig;
 import com.fitmap.function.domain.Sport;
 import com.fitmap.function.exception.TerminalException;
-import com.google.cloud.firestore.FieldPath;
+import com.fitmap.function.repository.CatalogRepository;
 import com.google.cloud.firestore.Firestore;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -15,20 +17,30 @@ import org.springframework.http.HttpStatus;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.java.Log;
 
 @Log
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class SportService {
 
-    private static final Firestore db = FirestoreConfig.FIRESTORE;
+    private static final CatalogRepository<Sport> repository = RepositoryConfig.SPORT_REPOSITORY;
+
+    private static final CatalogReplica<Sport> cache = new CatalogReplica<>(
+        repository.changeFeed(),
+        Sport.class,
+        new CatalogCache<>(repository::findAll, Sport::getId, CacheConfig.CATALOG_CACHE_TTL),
+        CacheConfig.CATALOG_REPLICA_ENABLED);
+
+    private static Firestore db() {
+
+        return FirestoreConfig.FIRESTORE;
+    }
 
     public static List<Sport> create(List<Sport> sports) {
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var collRef = db.collection(Sport.SPORTS_COLLECTION);
+        var collRef = db().collection(Sport.SPORTS_COLLECTION);
 
         var sportsPerDocRef = sports.stream().map(sport -> {
             var ref = collRef.document();
@@ -44,6 +56,8 @@ public class SportService {
 
             batch.commit().get();
 
+            cache.written(sports, Sport::getId);
+
             return sports;
 
         } catch (Exception e) {
@@ -54,25 +68,33 @@ public class SportService {
         }
     }
 
-    @SneakyThrows
     public static List<Sport> find(List<String> ids) {
 
-        return db.collection(Sport.SPORTS_COLLECTION).whereIn(FieldPath.documentId(), ids).get().get().toObjects(Sport.class);
+        return cache.find(ids);
 
     }
 
-    @SneakyThrows
     public static List<Sport> findAll() {
 
-        return db.collection(Sport.SPORTS_COLLECTION).get().get().toObjects(Sport.class);
+        return cache.findAll();
 
     }
 
+    public static String version() {
+
+        return cache.version();
+    }
+
+    public static void invalidateCache() {
+
+        cache.invalidate();
+    }
+
     public static List<Sport> update(List<Sport> sports) {
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var collRef = db.collection(Sport.SPORTS_COLLECTION);
+        var collRef = db().collection(Sport.SPORTS_COLLECTION);
 
         sports.forEach(sport ->  batch
             .update(
@@ -89,6 +111,8 @@ public class SportService {
 
             batch.commit().get();
 
+            cache.written(sports, Sport::getId);
+
             return sports;
 
         } catch (Exception e) {
@@ -102,9 +126,9 @@ public class SportService {
 
     public static void remove(List<String> ids) {
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var collRef = db.collection(Sport.SPORTS_COLLECTION);
+        var collRef = db().collection(Sport.SPORTS_COLLECTION);
 
         ids.forEach(id -> batch.delete(collRef.document(id)));
 
@@ -112,6 +136,8 @@ public class SportService {
 
             batch.commit().get();
 
+            cache.removed(ids);
+
         } catch (Exception e) {
 
             log.log(Level.SEVERE, e.getMessage(), e);
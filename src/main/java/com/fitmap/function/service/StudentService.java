@@ -1,6 +1,7 @@
 package com.fitmap.function.service;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -8,16 +9,21 @@ import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.RepositoryConfig;
 import com.fitmap.function.domain.Address;
 import com.fitmap.function.domain.Contact;
+import com.fitmap.function.domain.Pin;
 import com.fitmap.function.domain.Student;
+import com.fitmap.function.domain.constants.HydrationLevel;
 import com.fitmap.function.exception.TerminalException;
+import com.fitmap.function.util.ApiFutureUtils;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
 import com.google.cloud.firestore.DocumentReference;
-import com.google.cloud.firestore.FieldPath;
 import com.google.cloud.firestore.FieldValue;
 import com.google.cloud.firestore.Firestore;
+import com.google.common.util.concurrent.MoreExecutors;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.http.HttpStatus;
@@ -31,7 +37,14 @@ import lombok.extern.java.Log;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class StudentService {
 
-    private static final Firestore db = FirestoreConfig.FIRESTORE;
+    private static final String[] PIN_FIELDS = { Student.ID, Student.PROFILE_NAME, Student.GALLERY_PICTURES_URLS, Student.UPDATED_AT };
+    private static final String[] SUMMARY_FIELDS = { Student.ID, Student.PROFILE_NAME };
+    private static final String[] VERSION_FIELDS = { Student.ID, Student.UPDATED_AT };
+
+    private static Firestore db() {
+
+        return FirestoreConfig.FIRESTORE;
+    }
 
     public static Student create(Student student) {
 
@@ -39,9 +52,9 @@ public class StudentService {
         student.setCreatedAt(now);
         student.setUpdatedAt(now);
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var studentDocRef = db.collection(Student.STUDENTS_COLLECTION).document(student.getId());
+        var studentDocRef = db().collection(Student.STUDENTS_COLLECTION).document(student.getId());
 
         var addressPerDocRef = student.getAddresses().stream().map(address -> {
             var ref = studentDocRef.collection(Address.ADDRESSES_COLLECTION).document();
@@ -57,13 +70,13 @@ public class StudentService {
 
         CheckConstraintsRequestBodyService.checkConstraints(student);
 
-        var addressesCollRef = db.collection(Address.ADDRESSES_COLLECTION);
+        var addressesCollRef = db().collection(Address.ADDRESSES_COLLECTION);
         var masterAddressPerDocRef = new ArrayList<Pair<Address, DocumentReference>>();
 
         batch.create(studentDocRef, student);
         addressPerDocRef.forEach(pair -> {
             batch.create(pair.getRight(), pair.getLeft());
-            var newAddress = pair.getLeft().withStudent(student);
+            var newAddress = pair.getLeft().withStudent(student).withPin(Pin.from(student));
             var newAddressDocRef = addressesCollRef.document(newAddress.getId());
             masterAddressPerDocRef.add(Pair.of(newAddress, newAddressDocRef));
         });
@@ -85,94 +98,101 @@ public class StudentService {
 
     }
 
-    @SneakyThrows
     public static List<Student> find(List<String> studentIds) {
 
-        var students = new ArrayList<Student>();
-
-        db
-            .collection(Student.STUDENTS_COLLECTION)
-            .whereIn(FieldPath.documentId(), studentIds)
-            .get()
-            .get()
-            .forEach(queryDocSnapshot -> {
-
-                try {
-
-                    var docRef = queryDocSnapshot.getReference();
-                    var contactsColl = docRef.collection(Contact.CONTACTS_COLLECTION).get();
-                    var addressColl = docRef.collection(Address.ADDRESSES_COLLECTION).get();
+        return find(studentIds, HydrationLevel.FULL);
+    }
 
-                    var student = queryDocSnapshot.toObject(Student.class);
-                    var contacts = contactsColl.get().toObjects(Contact.class);
-                    var addresses = addressColl.get().toObjects(Address.class);
+    public static List<Student> find(List<String> studentIds, HydrationLevel level) {
 
-                    student.addContacts(contacts);
-                    student.addAddresses(addresses);
-                    students.add(student);
+        return ApiFutureUtils.await(findAsync(studentIds, level));
+    }
 
-                } catch (Exception e) { }
-            });
+    public static String findETag(List<String> studentIds) {
 
-        return students;
+        var versions = ApiFutureUtils.await(RepositoryConfig.STUDENT_REPOSITORY.findByIds(studentIds, VERSION_FIELDS));
 
+        return ETagService.fromVersions(versions, Student::getId, Student::getUpdatedAt);
     }
 
-    @SneakyThrows
-    public static void updateProps(Student student) {
+    public static ApiFuture<List<Student>> findAsync(List<String> studentIds, HydrationLevel level) {
 
-        var docRef = db.collection(Student.STUDENTS_COLLECTION).document(student.getId());
+        var fields = fields(level);
 
-        var propsToUpdate = new HashMap<String, Object>();
-        propsToUpdate.put(Student.UPDATED_AT, new Date());
+        var rootFuture = RepositoryConfig.STUDENT_REPOSITORY.findByIds(studentIds, fields);
 
-        if(StringUtils.isNotBlank(student.getProfileName())) {
-            propsToUpdate.put(Student.PROFILE_NAME, student.getProfileName());
-        }
+        return ApiFutures.transformAsync(rootFuture, roots -> {
 
-        propsToUpdate.put(Student.GALLERY_PICTURES_URLS, student.getGalleryPicturesUrls());
+            var ids = roots.stream().map(Student::getId).collect(Collectors.toList());
 
-        docRef.update(propsToUpdate).get();
+            var studentFutures = roots.stream().map(root -> hydrate(root, level)).collect(Collectors.toList());
 
-        var found = find(List.of(student.getId()));
+            return ApiFutureUtils.allAsListOrPartialFailure(ids, studentFutures, "student");
 
-        var updated = found.get(0);
+        }, MoreExecutors.directExecutor());
+    }
 
-        var addresses = updated.getAddresses();
+    private static String[] fields(HydrationLevel level) {
 
-        if(CollectionUtils.isEmpty(addresses)) {
-            return;
+        switch (level) {
+            case PIN:
+                return PIN_FIELDS;
+            case SUMMARY:
+                return SUMMARY_FIELDS;
+            default:
+                return new String[0];
         }
+    }
 
-        var batch = db.batch();
+    private static ApiFuture<Student> hydrate(Student student, HydrationLevel level) {
 
-        var addressColl = db.collection(Address.ADDRESSES_COLLECTION);
+        var id = student.getId();
 
-        addresses.forEach(address -> {
+        var addresses = level.isAtLeast(HydrationLevel.SUMMARY)
+            ? RepositoryConfig.ADDRESS_REPOSITORY.findBySuperEntity(Student.STUDENTS_COLLECTION, id, !level.isAtLeast(HydrationLevel.PROFILE))
+            : ApiFutures.<List<Address>>immediateFuture(Collections.emptyList());
 
-            var id = address.getId();
+        var contacts = level.isAtLeast(HydrationLevel.PROFILE)
+            ? RepositoryConfig.CONTACT_REPOSITORY.findBySuperEntity(Student.STUDENTS_COLLECTION, id)
+            : ApiFutures.<List<Contact>>immediateFuture(Collections.emptyList());
 
-            var addressDocRef = addressColl.document(id);
+        return ApiFutures.transform(ApiFutures.allAsList(List.of(addresses, contacts)), ignored -> {
 
-            batch.update(addressDocRef, Address.STUDENT, updated);
-        });
+            student.addAddresses(ApiFutureUtils.getDone(addresses));
+            student.addContacts(ApiFutureUtils.getDone(contacts));
 
-        try {
+            return student;
 
-            batch.commit().get();
+        }, MoreExecutors.directExecutor());
+    }
 
-        } catch (Exception e) {
+    @SneakyThrows
+    public static void updateProps(Student student) {
 
-            log.log(Level.SEVERE, e.getMessage(), e);
+        var docRef = db().collection(Student.STUDENTS_COLLECTION).document(student.getId());
 
-            throw new TerminalException(e.getMessage(), HttpStatus.CONFLICT);
+        var propsToUpdate = new HashMap<String, Object>();
+        propsToUpdate.put(Student.UPDATED_AT, new Date());
+
+        if(StringUtils.isNotBlank(student.getProfileName())) {
+            propsToUpdate.put(Student.PROFILE_NAME, student.getProfileName());
         }
+
+        propsToUpdate.put(Student.GALLERY_PICTURES_URLS, student.getGalleryPicturesUrls());
+
+        var batch = db().batch();
+        batch.update(docRef, propsToUpdate);
+
+        var copies = OutboxService.copies(batch);
+        copies.fanOut(docRef, Address.STUDENT, propsToUpdate);
+
+        OutboxService.commit(batch, copies);
     }
 
     @SneakyThrows
     public static void removeElementsFromArraysProps(Student student) {
 
-        var docRef = db.collection(Student.STUDENTS_COLLECTION).document(student.getId());
+        var docRef = db().collection(Student.STUDENTS_COLLECTION).document(student.getId());
 
         var propsToUpdate = new HashMap<String, Object>();
         propsToUpdate.put(Student.UPDATED_AT, new Date());
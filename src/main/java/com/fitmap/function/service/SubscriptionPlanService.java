@@ -5,8 +5,10 @@ import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.RepositoryConfig;
 import com.fitmap.function.domain.SubscriptionPlan;
 import com.fitmap.function.exception.TerminalException;
+import com.fitmap.function.util.ApiFutureUtils;
 import com.google.cloud.firestore.Firestore;
 import com.google.cloud.firestore.WriteBatch;
 
@@ -15,28 +17,27 @@ import org.springframework.http.HttpStatus;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.java.Log;
 
 @Log
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class SubscriptionPlanService {
 
-    private static final Firestore db = FirestoreConfig.FIRESTORE;
+    private static Firestore db() {
 
-    @SneakyThrows
-    public static List<SubscriptionPlan> find(String superEntityId, String superCollection) {
+        return FirestoreConfig.FIRESTORE;
+    }
 
-        var docRef = db.collection(superCollection).document(superEntityId).collection(SubscriptionPlan.SUBSCRIPTION_PLANS_COLLECTION);
+    public static List<SubscriptionPlan> find(String superEntityId, String superCollection) {
 
-        return docRef.get().get().toObjects(SubscriptionPlan.class);
+        return ApiFutureUtils.await(RepositoryConfig.SUBSCRIPTION_PLAN_REPOSITORY.findBySuperEntity(superCollection, superEntityId));
     }
 
 	public static List<SubscriptionPlan> create(String superEntityId, String superCollection, List<SubscriptionPlan> subscriptionPlans) {
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var collRef = db.collection(superCollection).document(superEntityId).collection(SubscriptionPlan.SUBSCRIPTION_PLANS_COLLECTION);
+        var collRef = db().collection(superCollection).document(superEntityId).collection(SubscriptionPlan.SUBSCRIPTION_PLANS_COLLECTION);
 
         var subEntitiesPerDocRef = subscriptionPlans.stream().map(subscriptionPlan -> {
             var ref = collRef.document();
@@ -48,7 +49,7 @@ public class SubscriptionPlanService {
 
         subEntitiesPerDocRef.forEach(pair -> batch.create(pair.getRight(), pair.getLeft()));
 
-        commit(batch);
+        commit(batch, superEntityId, superCollection);
 
         return subscriptionPlans;
 
@@ -56,9 +57,9 @@ public class SubscriptionPlanService {
 
     public static List<SubscriptionPlan> edit(String superEntityId, String superCollection, List<SubscriptionPlan> subscriptionPlans) {
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var subscriptionPlansCollection = db.collection(superCollection).document(superEntityId).collection(SubscriptionPlan.SUBSCRIPTION_PLANS_COLLECTION);
+        var subscriptionPlansCollection = db().collection(superCollection).document(superEntityId).collection(SubscriptionPlan.SUBSCRIPTION_PLANS_COLLECTION);
 
         subscriptionPlans.forEach(subscriptionPlan -> {
 
@@ -71,7 +72,7 @@ public class SubscriptionPlanService {
             batch.update(docRef, fields);
         });
 
-        commit(batch);
+        commit(batch, superEntityId, superCollection);
 
         return subscriptionPlans;
 
@@ -79,9 +80,9 @@ public class SubscriptionPlanService {
 
     public static void delete(String superEntityId, String superCollection, List<String> subscriptionPlansIds) {
 
-        var batch = db.batch();
+        var batch = db().batch();
 
-        var subscriptionPlansCollection = db.collection(superCollection).document(superEntityId).collection(SubscriptionPlan.SUBSCRIPTION_PLANS_COLLECTION);
+        var subscriptionPlansCollection = db().collection(superCollection).document(superEntityId).collection(SubscriptionPlan.SUBSCRIPTION_PLANS_COLLECTION);
 
         subscriptionPlansIds.forEach(id -> {
 
@@ -90,13 +91,18 @@ public class SubscriptionPlanService {
             batch.delete(docRef);
         });
 
-        commit(batch);
+        commit(batch, superEntityId, superCollection);
     }
 
-    private static void commit(WriteBatch batch) {
+    private static void commit(WriteBatch batch, String superEntityId, String superCollection) {
+
+        var copies = OutboxService.copies(batch);
+
+        SuperEntityService.touch(batch, copies, superEntityId, superCollection);
+
         try {
 
-            batch.commit().get();
+            OutboxService.commit(batch, copies);
 
         } catch (Exception e) {
 
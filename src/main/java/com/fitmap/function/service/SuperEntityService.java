@@ -0,0 +1,47 @@
+package com.fitmap.function.service;
+
+import java.util.Date;
+import java.util.Map;
+
+import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.domain.Address;
+import com.fitmap.function.domain.Gym;
+import com.fitmap.function.domain.PersonalTrainer;
+import com.fitmap.function.domain.Student;
+import com.fitmap.function.outbox.CopyWrites;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteBatch;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SuperEntityService {
+
+    private static final String UPDATED_AT = "updatedAt";
+
+    private static final Map<String, String> EMBEDDED_FIELD_PER_COLLECTION = Map.of(
+        Gym.GYMS_COLLECTION, Address.GYM,
+        PersonalTrainer.PERSONAL_TRAINERS_COLLECTION, Address.PERSONAL_TRAINER,
+        Student.STUDENTS_COLLECTION, Address.STUDENT);
+
+    private static Firestore db() {
+
+        return FirestoreConfig.FIRESTORE;
+    }
+
+    public static void touch(WriteBatch batch, CopyWrites copies, String superEntityId, String superCollection) {
+
+        var docRef = db().collection(superCollection).document(superEntityId);
+        var updatedAt = Map.<String, Object>of(UPDATED_AT, new Date());
+
+        batch.update(docRef, updatedAt);
+
+        var embeddedField = EMBEDDED_FIELD_PER_COLLECTION.get(superCollection);
+
+        if(embeddedField != null) {
+            copies.fanOut(docRef, embeddedField, updatedAt);
+        }
+    }
+
+}
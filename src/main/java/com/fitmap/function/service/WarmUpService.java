@@ -0,0 +1,147 @@
+package com.fitmap.function.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.ObjectMapperConfig;
+import com.fitmap.function.config.RepositoryConfig;
+import com.fitmap.function.config.ValidatorConfig;
+import com.fitmap.function.config.WarmUpConfig;
+import com.fitmap.function.service.ColdStartService.Client;
+import com.fitmap.function.v2.payload.PayloadTypes;
+import com.fitmap.function.warmup.WarmUpReport;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.java.Log;
+
+@Log
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class WarmUpService {
+
+    private static final String FIRESTORE_CHANNEL = "firestore-channel";
+
+    private static final AtomicBoolean started = new AtomicBoolean();
+
+    public static void warmUpIfEnabled() {
+
+        if(WarmUpConfig.WARM_UP_ENABLED && started.compareAndSet(false, true)) {
+            warmUp(WarmUpConfig.WARM_UP_BUDGET.toMillis());
+        }
+    }
+
+    @SneakyThrows
+    public static WarmUpReport warmUp(long budgetMillis) {
+
+        var startedAt = System.nanoTime();
+        var deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        var report = new WarmUpReport(budgetMillis);
+
+        var types = new ArrayList<Class<?>>();
+        types.addAll(PayloadTypes.REQUEST_TYPES);
+        types.addAll(PayloadTypes.RESPONSE_TYPES);
+
+        var targets = types.stream().map(Class::getSimpleName).collect(Collectors.toCollection(ArrayList::new));
+
+        if(RepositoryConfig.IN_MEMORY_STORE == null) {
+            targets.add(FIRESTORE_CHANNEL);
+        }
+
+        ColdStartService.prepare(Client.OBJECT_MAPPER, Client.VALIDATOR, Client.REPOSITORIES, Client.FIRESTORE);
+
+        var payloads = CompletableFuture.runAsync(() -> warmPayloads(report, types, deadline));
+        var channel = CompletableFuture.runAsync(() -> warmFirestoreChannel(report, deadline));
+
+        try {
+
+            CompletableFuture.allOf(payloads, channel).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+        } catch (TimeoutException e) {
+
+            log.log(Level.INFO, "Warm-up budget exhausted, the remaining targets were skipped.");
+        }
+
+        report.close(targets, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        log.log(Level.INFO, "Warm-up finished. " + report);
+
+        return report;
+    }
+
+    private static void warmPayloads(WarmUpReport report, List<Class<?>> types, long deadline) {
+
+        for (var type : types) {
+
+            if(System.nanoTime() > deadline) {
+                return;
+            }
+
+            var startedAt = System.nanoTime();
+
+            try {
+
+                cycle(type);
+
+                report.warmed(type.getSimpleName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+            } catch (Exception e) {
+
+                report.failed(type.getSimpleName(), e);
+            }
+        }
+    }
+
+    private static void cycle(Class<?> type) throws Exception {
+
+        var json = type.isArray() ? (type == String[].class ? "[\"warm-up\"]" : "[{}]") : "{}";
+
+        var value = ObjectMapperConfig.readerFor(type).readValue(json);
+
+        if(type.isArray()) {
+            for (var element : (Object[]) value) {
+                ValidatorConfig.VALIDATOR.validate(element);
+            }
+        } else {
+            ValidatorConfig.VALIDATOR.validate(value);
+        }
+
+        ObjectMapperConfig.writerFor(type).writeValueAsBytes(value);
+    }
+
+    private static void warmFirestoreChannel(WarmUpReport report, long deadline) {
+
+        if(RepositoryConfig.IN_MEMORY_STORE != null) {
+            return;
+        }
+
+        var startedAt = System.nanoTime();
+
+        try {
+
+            FirestoreConfig.FIRESTORE
+                .collection(WarmUpConfig.WARM_UP_COLLECTION)
+                .document(FIRESTORE_CHANNEL)
+                .get()
+                .get(Math.max(0, deadline - startedAt), TimeUnit.NANOSECONDS);
+
+            report.warmed(FIRESTORE_CHANNEL, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        } catch (TimeoutException e) {
+
+            log.log(Level.FINE, "Firestore channel did not open within the warm-up budget.");
+
+        } catch (Exception e) {
+
+            report.failed(FIRESTORE_CHANNEL, e);
+        }
+    }
+
+}
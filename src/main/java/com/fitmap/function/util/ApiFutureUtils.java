@@ -0,0 +1,86 @@
+package com.fitmap.function.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Level;
+
+import com.fitmap.function.exception.PartialResultException;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.java.Log;
+
+@Log
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ApiFutureUtils {
+
+    public static <T> ApiFuture<List<T>> allAsListOrPartialFailure(List<String> ids, List<ApiFuture<T>> futures, String entityName) {
+
+        return ApiFutures.transform(ApiFutures.successfulAsList(futures), ignored -> {
+
+            var result = new ArrayList<T>();
+            var failedIds = new ArrayList<String>();
+            Throwable firstFailure = null;
+
+            for (var i = 0; i < futures.size(); i++) {
+
+                try {
+
+                    result.add(futures.get(i).get());
+
+                } catch (Exception e) {
+
+                    var cause = e instanceof ExecutionException ? e.getCause() : e;
+
+                    log.log(Level.SEVERE, "Cannot load " + entityName + ", " + ids.get(i) + ".", cause);
+
+                    failedIds.add(ids.get(i));
+
+                    if(firstFailure == null) {
+                        firstFailure = cause;
+                    }
+                }
+            }
+
+            if(!failedIds.isEmpty()) {
+                throw new PartialResultException("Cannot load " + entityName + " " + failedIds + ".", firstFailure, result, failedIds);
+            }
+
+            return result;
+
+        }, MoreExecutors.directExecutor());
+    }
+
+    @SneakyThrows
+    public static <T> T await(ApiFuture<T> future) {
+
+        try {
+
+            return future.get();
+
+        } catch (ExecutionException e) {
+
+            if(e.getCause() instanceof RuntimeException) {
+                throw e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    @SneakyThrows
+    public static <T> T getDone(ApiFuture<T> future) {
+
+        if(!future.isDone()) {
+            throw new IllegalStateException("Future is not done yet.");
+        }
+
+        return future.get();
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.fitmap.function.util;
+
+import java.util.Optional;
+
+import com.firebase.geofire.GeoLocation;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GeoLocationUtils {
+
+    public static Optional<GeoLocation> parse(String latitude, String longitude) {
+
+        if(StringUtils.isAnyBlank(latitude, longitude)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new GeoLocation(Double.parseDouble(latitude), Double.parseDouble(longitude)));
+    }
+
+}
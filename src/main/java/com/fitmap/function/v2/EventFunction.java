@@ -6,24 +6,23 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
-import javax.validation.ConstraintViolationException;
-
 import com.fitmap.function.config.SystemTimeZoneConfig;
 import com.fitmap.function.domain.Address;
 import com.fitmap.function.domain.Event;
 import com.fitmap.function.domain.Gym;
 import com.fitmap.function.domain.PersonalTrainer;
-import com.fitmap.function.exception.TerminalException;
 import com.fitmap.function.mapper.DtoMapper;
+import com.fitmap.function.route.Middlewares;
+import com.fitmap.function.route.RouteTable;
 import com.fitmap.function.service.AddressService;
 import com.fitmap.function.service.CheckConstraintsRequestBodyService;
-import com.fitmap.function.service.CheckRequestContentTypeService;
+import com.fitmap.function.service.ColdStartService.Client;
 import com.fitmap.function.service.EventService;
 import com.fitmap.function.service.GymService;
 import com.fitmap.function.service.PersonalTrainerService;
 import com.fitmap.function.service.ReadRequestService;
 import com.fitmap.function.service.ResponseService;
-import com.fitmap.function.util.Constants;
+import com.fitmap.function.service.WarmUpService;
 import com.fitmap.function.v2.payload.request.EventCreateRequest;
 import com.fitmap.function.v2.payload.request.EventEditRequest;
 import com.google.cloud.functions.HttpFunction;
@@ -33,71 +32,46 @@ import com.google.cloud.functions.HttpResponse;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.converter.HttpMessageNotReadableException;
-import org.springframework.web.server.MethodNotAllowedException;
-import org.springframework.web.server.UnsupportedMediaTypeStatusException;
 
 import lombok.extern.java.Log;
 
 @Log
 public class EventFunction implements HttpFunction {
 
+    private static final String GYM_PATH = "/api/v2/gym/events";
+    private static final String PERSONAL_TRAINER_PATH = "/api/v2/personal-trainer/events";
+
+    private static final RouteTable ROUTES = RouteTable.builder().add(EventFunction::routes).build();
+
     public EventFunction() {
 
         log.log(Level.INFO, "init EventFunction. timestamp=" + ZonedDateTime.now());
         SystemTimeZoneConfig.setUtcDefaultTimeZone();
+        WarmUpService.warmUpIfEnabled();
     }
 
     @Override
     public void service(HttpRequest request, HttpResponse response) throws Exception {
 
-        try {
-
-            final var path = request.getPath();
-
-            switch (path) {
-                case "/api/v2/gym/events":
-                    doService(request, response, Gym.GYMS_COLLECTION);
-                    break;
-                case "/api/v2/personal-trainer/events":
-                    doService(request, response, PersonalTrainer.PERSONAL_TRAINERS_COLLECTION);
-                    break;
-                default:
-                    throw new TerminalException("No mapping found for HTTP request path [" + path + "]", HttpStatus.NOT_FOUND);
-            }
+        ROUTES.serve(request, response);
+    }
 
-        } catch (TerminalException e) { ResponseService.answerTerminalException(request, response, e); }
-          catch (MethodNotAllowedException e) { ResponseService.answerMethodNotAllowed(request, response, e); }
-          catch (UnsupportedMediaTypeStatusException e) { ResponseService.answerUnsupportedMediaType(request, response, e); }
-          catch (HttpMessageNotReadableException e) { ResponseService.answerBadRequest(request, response, e); }
-          catch (ConstraintViolationException e) { ResponseService.answerBadRequest(request, response, e); }
-          catch (Exception e) { log.log(Level.SEVERE, e.getMessage(), e); ResponseService.answerInternalServerError(request, response, e); }
+    public static void routes(RouteTable.Builder routes) {
 
+        routes(routes, GYM_PATH, Gym.GYMS_COLLECTION);
+        routes(routes, PERSONAL_TRAINER_PATH, PersonalTrainer.PERSONAL_TRAINERS_COLLECTION);
     }
 
-    public static void doService(HttpRequest request, HttpResponse response, String superCollection) {
+    private static void routes(RouteTable.Builder routes, String path, String superCollection) {
 
-        var requestMethod = HttpMethod.resolve(request.getMethod());
-
-        switch (HttpMethod.resolve(request.getMethod())) {
-            case GET:
-                doGet(request, response, superCollection);
-                break;
-            case POST:
-                doPost(request, response, superCollection);
-                break;
-            case PUT:
-                doPut(request, response, superCollection);
-                break;
-            case DELETE:
-                doDelete(request, response, superCollection);
-                break;
-            default:
-                throw new MethodNotAllowedException(requestMethod, Constants.CRUD_HTTP_METHODS);
-        }
+        var prepare = Middlewares.prepare(Client.OBJECT_MAPPER, Client.REPOSITORIES, Client.FIRESTORE, Client.VALIDATOR);
 
+        routes
+            .get(path, (request, response) -> doGet(request, response, superCollection), prepare, Middlewares.userId())
+            .post(path, Middlewares.body(EventCreateRequest[].class, (request, response, dto) -> doPost(request, response, dto, superCollection)), prepare, Middlewares.jsonContentType(), Middlewares.userId())
+            .put(path, Middlewares.body(EventEditRequest[].class, (request, response, dto) -> doPut(request, response, dto, superCollection)), prepare, Middlewares.jsonContentType(), Middlewares.userId())
+            .delete(path, Middlewares.body(String[].class, (request, response, dto) -> doDelete(request, response, dto, superCollection)), prepare, Middlewares.jsonContentType(), Middlewares.userId());
     }
 
     private static void doGet(HttpRequest request, HttpResponse response, String superCollection) {
@@ -106,8 +80,8 @@ public class EventFunction implements HttpFunction {
 
         var found = find(userId, superCollection);
 
-        ResponseService.writeResponse(response, found);
-        ResponseService.fillResponseWithStatus(response, HttpStatus.OK);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.OK);
+        ResponseService.writeResponse(request, response, found);
     }
 
     private static List<Event> find(String superEntityId, String superCollection) {
@@ -115,11 +89,7 @@ public class EventFunction implements HttpFunction {
         return EventService.find(superEntityId, superCollection);
     }
 
-    private static void doPost(HttpRequest request, HttpResponse response, String superCollection) {
-
-        CheckRequestContentTypeService.checkApplicationJsonContentType(request);
-
-        var dto = ReadRequestService.getBody(request, EventCreateRequest[].class);
+    private static void doPost(HttpRequest request, HttpResponse response, EventCreateRequest[] dto, String superCollection) {
 
         CheckConstraintsRequestBodyService.checkNotEmpty(dto);
 
@@ -129,8 +99,8 @@ public class EventFunction implements HttpFunction {
 
         var created = create(Arrays.asList(dto), ReadRequestService.getUserId(request), superCollection);
 
-        ResponseService.writeResponse(response, created);
-        ResponseService.fillResponseWithStatus(response, HttpStatus.CREATED);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.CREATED);
+        ResponseService.writeResponse(request, response, created);
     }
 
     private static List<Event> create(List<EventCreateRequest> dtos, String superEntityId, String superCollection) {
@@ -142,11 +112,7 @@ public class EventFunction implements HttpFunction {
         return EventService.create(superEntityId, superCollection, subEntities);
     }
 
-    private static void doPut(HttpRequest request, HttpResponse response, String superCollection) {
-
-        CheckRequestContentTypeService.checkApplicationJsonContentType(request);
-
-        var dto = ReadRequestService.getBody(request, EventEditRequest[].class);
+    private static void doPut(HttpRequest request, HttpResponse response, EventEditRequest[] dto, String superCollection) {
 
         CheckConstraintsRequestBodyService.checkNotEmpty(dto);
 
@@ -156,7 +122,7 @@ public class EventFunction implements HttpFunction {
 
         edit(Arrays.asList(dto), ReadRequestService.getUserId(request), superCollection);
 
-        ResponseService.fillResponseWithStatus(response, HttpStatus.NO_CONTENT);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.NO_CONTENT);
     }
 
     private static List<Event> edit(List<EventEditRequest> dtos, String superEntityId, String superCollection) {
@@ -195,11 +161,7 @@ public class EventFunction implements HttpFunction {
         AddressService.delete(superEntityId, superCollection, addressesIds);
     }
 
-    private static void doDelete(HttpRequest request, HttpResponse response, String superCollection) {
-
-        CheckRequestContentTypeService.checkApplicationJsonContentType(request);
-
-        var dto = ReadRequestService.getBody(request, String[].class);
+    private static void doDelete(HttpRequest request, HttpResponse response, String[] dto, String superCollection) {
 
         CheckConstraintsRequestBodyService.checkNotEmpty(dto);
 
@@ -207,7 +169,7 @@ public class EventFunction implements HttpFunction {
 
         delete(Arrays.asList(dto), userId, superCollection);
 
-        ResponseService.fillResponseWithStatus(response, HttpStatus.NO_CONTENT);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.NO_CONTENT);
     }
 
     private static void delete(List<String> eventsIds, String superEntityId, String superCollection) {
@@ -10,135 +10,105 @@ import java.util.Objects;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
-import javax.validation.ConstraintViolationException;
-
 import com.fitmap.function.config.SystemTimeZoneConfig;
 import com.fitmap.function.domain.Fight;
-import com.fitmap.function.exception.TerminalException;
+import com.fitmap.function.route.Middlewares;
+import com.fitmap.function.route.RouteTable;
 import com.fitmap.function.service.CheckConstraintsRequestBodyService;
-import com.fitmap.function.service.CheckRequestContentTypeService;
+import com.fitmap.function.service.ColdStartService.Client;
+import com.fitmap.function.service.ETagService;
 import com.fitmap.function.service.FightService;
 import com.fitmap.function.service.ReadRequestService;
 import com.fitmap.function.service.ResponseService;
-import com.fitmap.function.util.Constants;
+import com.fitmap.function.service.WarmUpService;
 import com.fitmap.function.v2.payload.request.FightCreateRequest;
 import com.google.cloud.functions.HttpFunction;
 import com.google.cloud.functions.HttpRequest;
 import com.google.cloud.functions.HttpResponse;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.converter.HttpMessageNotReadableException;
-import org.springframework.web.server.MethodNotAllowedException;
-import org.springframework.web.server.UnsupportedMediaTypeStatusException;
 
 import lombok.extern.java.Log;
 
 @Log
 public class FightFunction implements HttpFunction {
 
+    private static final String PATH = "/api/v2/fight";
+
+    private static final RouteTable ROUTES = RouteTable.builder().add(FightFunction::routes).build();
+
     public FightFunction() {
 
         log.log(Level.INFO, "init FightFunction. timestamp=" + ZonedDateTime.now());
         SystemTimeZoneConfig.setUtcDefaultTimeZone();
+        WarmUpService.warmUpIfEnabled();
     }
 
     @Override
     public void service(HttpRequest request, HttpResponse response) throws Exception {
 
-        try {
-
-            final var path = request.getPath();
-
-            switch (path) {
-                case "/api/v2/fight":
-                    doService(request, response);
-                    break;
-                default:
-                    throw new TerminalException("No mapping found for HTTP request path [" + path + "]", HttpStatus.NOT_FOUND);
-            }
-
-        } catch (TerminalException e) { ResponseService.answerTerminalException(request, response, e); }
-          catch (MethodNotAllowedException e) { ResponseService.answerMethodNotAllowed(request, response, e); }
-          catch (UnsupportedMediaTypeStatusException e) { ResponseService.answerUnsupportedMediaType(request, response, e); }
-          catch (HttpMessageNotReadableException e) { ResponseService.answerBadRequest(request, response, e); }
-          catch (ConstraintViolationException e) { ResponseService.answerBadRequest(request, response, e); }
-          catch (Exception e) { log.log(Level.SEVERE, e.getMessage(), e); ResponseService.answerInternalServerError(request, response, e); }
-
+        ROUTES.serve(request, response);
     }
 
-    public static void doService(HttpRequest request, HttpResponse response) {
-
-        var requestMethod = HttpMethod.resolve(request.getMethod());
-
-        switch (requestMethod) {
-            case GET:
-                doGet(request, response);
-                break;
-            case POST:
-                doPost(request, response);
-                break;
-            case PUT:
-                doPut(request, response);
-                break;
-            case DELETE:
-                doDelete(request, response);
-                break;
-            default:
-                throw new MethodNotAllowedException(requestMethod, Constants.CRUD_HTTP_METHODS);
-        }
+    public static void routes(RouteTable.Builder routes) {
 
+        var prepare = Middlewares.prepare(Client.OBJECT_MAPPER, Client.REPOSITORIES, Client.FIRESTORE, Client.VALIDATOR);
+
+        routes
+            .get(PATH, FightFunction::doGet, prepare)
+            .post(PATH, Middlewares.body(FightCreateRequest[].class, FightFunction::doPost), prepare, Middlewares.jsonContentType())
+            .put(PATH, Middlewares.body(Fight[].class, FightFunction::doPut), prepare, Middlewares.jsonContentType())
+            .delete(PATH, Middlewares.body(String[].class, FightFunction::doDelete), prepare, Middlewares.jsonContentType());
     }
 
     private static void doGet(HttpRequest request, HttpResponse response) {
 
         var clientLocale = ReadRequestService.getAcceptLanguage(request);
 
-        var found = find(request.getQueryParameters().get("ids"), clientLocale);
+        var ids = request.getQueryParameters().get("ids");
 
-        ResponseService.writeResponse(response, found);
-        ResponseService.fillResponseWithStatus(response, HttpStatus.OK);
-    }
+        var etag = ETagService.combine(FightService.version(), ids);
 
-    private static void doPost(HttpRequest request, HttpResponse response) {
+        if(ETagService.isNotModified(request, etag)) {
 
-        CheckRequestContentTypeService.checkApplicationJsonContentType(request);
+            ResponseService.answerNotModified(request, response, etag);
+            return;
+        }
+
+        var found = find(ids, clientLocale);
+
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.OK);
+        ResponseService.setETag(response, etag);
+        ResponseService.writeResponse(request, response, found);
+    }
 
-        var dto = ReadRequestService.getBody(request, FightCreateRequest[].class);
+    private static void doPost(HttpRequest request, HttpResponse response, FightCreateRequest[] dto) {
 
         CheckConstraintsRequestBodyService.checkNotEmpty(dto);
 
         var created = create(Arrays.asList(dto));
 
-        ResponseService.writeResponse(response, created);
-        ResponseService.fillResponseWithStatus(response, HttpStatus.CREATED);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.CREATED);
+        ResponseService.writeResponse(request, response, created);
     }
 
-    private static void doPut(HttpRequest request, HttpResponse response) {
-
-        CheckRequestContentTypeService.checkApplicationJsonContentType(request);
-
-        var dto = ReadRequestService.getBody(request, Fight[].class);
+    private static void doPut(HttpRequest request, HttpResponse response, Fight[] dto) {
 
         CheckConstraintsRequestBodyService.checkConstraints(dto);
 
         update(Arrays.asList(dto));
 
-        ResponseService.fillResponseWithStatus(response, HttpStatus.NO_CONTENT);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.NO_CONTENT);
     }
 
-    private static void doDelete(HttpRequest request, HttpResponse response) {
-
-        CheckRequestContentTypeService.checkApplicationJsonContentType(request);
-
-        var dto = ReadRequestService.getBody(request, String[].class);
+    private static void doDelete(HttpRequest request, HttpResponse response, String[] dto) {
 
         CheckConstraintsRequestBodyService.checkNotEmpty(dto);
 
         delete(Arrays.asList(dto));
 
-        ResponseService.fillResponseWithStatus(response, HttpStatus.NO_CONTENT);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.NO_CONTENT);
     }
 
     private static void delete(List<String> ids) {
@@ -8,21 +8,23 @@ import java.util.Objects;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
-import javax.validation.ConstraintViolationException;
-
 import com.fitmap.function.config.SystemTimeZoneConfig;
 import com.fitmap.function.domain.Contact;
 import com.fitmap.function.domain.Gym;
+import com.fitmap.function.domain.constants.HydrationLevel;
 import com.fitmap.function.exception.TerminalException;
 import com.fitmap.function.mapper.DtoMapper;
+import com.fitmap.function.route.Middlewares;
+import com.fitmap.function.route.RouteTable;
 import com.fitmap.function.service.AddressService;
 import com.fitmap.function.service.CheckConstraintsRequestBodyService;
-import com.fitmap.function.service.CheckRequestContentTypeService;
+import com.fitmap.function.service.ColdStartService.Client;
 import com.fitmap.function.service.ContactService;
+import com.fitmap.function.service.ETagService;
 import com.fitmap.function.service.GymService;
 import com.fitmap.function.service.ReadRequestService;
 import com.fitmap.function.service.ResponseService;
-import com.fitmap.function.util.Constants;
+import com.fitmap.function.service.WarmUpService;
 import com.fitmap.function.v2.payload.request.GymCreateRequest;
 import com.fitmap.function.v2.payload.request.GymEditRequest;
 import com.fitmap.function.v2.payload.response.GymResponse;
@@ -31,107 +33,86 @@ import com.google.cloud.functions.HttpRequest;
 import com.google.cloud.functions.HttpResponse;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.converter.HttpMessageNotReadableException;
-import org.springframework.web.server.MethodNotAllowedException;
-import org.springframework.web.server.UnsupportedMediaTypeStatusException;
 
 import lombok.extern.java.Log;
 
 @Log
 public class GymFunction implements HttpFunction {
 
+    private static final String PATH = "/api/v2/gym";
+
+    private static final RouteTable ROUTES = RouteTable.builder().add(GymFunction::routes).build();
+
     public GymFunction() {
 
         log.log(Level.INFO, "init GymFunction. timestamp=" + ZonedDateTime.now());
         SystemTimeZoneConfig.setUtcDefaultTimeZone();
+        WarmUpService.warmUpIfEnabled();
     }
 
     @Override
     public void service(HttpRequest request, HttpResponse response) throws Exception {
 
-        try {
-
-            final var path = request.getPath();
-
-            switch (path) {
-                case "/api/v2/gym":
-                    doService(request, response);
-                    break;
-                default:
-                    throw new TerminalException("No mapping found for HTTP request path [" + path + "]", HttpStatus.NOT_FOUND);
-            }
-
-        } catch (TerminalException e) { ResponseService.answerTerminalException(request, response, e); }
-          catch (MethodNotAllowedException e) { ResponseService.answerMethodNotAllowed(request, response, e); }
-          catch (UnsupportedMediaTypeStatusException e) { ResponseService.answerUnsupportedMediaType(request, response, e); }
-          catch (HttpMessageNotReadableException e) { ResponseService.answerBadRequest(request, response, e); }
-          catch (ConstraintViolationException e) { ResponseService.answerBadRequest(request, response, e); }
-          catch (Exception e) { log.log(Level.SEVERE, e.getMessage(), e); ResponseService.answerInternalServerError(request, response, e); }
-
+        ROUTES.serve(request, response);
     }
 
-    public static void doService(HttpRequest request, HttpResponse response) {
-
-        var requestMethod = HttpMethod.resolve(request.getMethod());
-
-        switch (HttpMethod.resolve(request.getMethod())) {
-            case GET:
-                doGet(request, response);
-                break;
-            case POST:
-                doPost(request, response);
-                break;
-            case PUT:
-                doPut(request, response);
-                break;
-            default:
-                throw new MethodNotAllowedException(requestMethod, Constants.CRUD_HTTP_METHODS);
-        }
+    public static void routes(RouteTable.Builder routes) {
 
+        var prepare = Middlewares.prepare(Client.OBJECT_MAPPER, Client.REPOSITORIES, Client.FIRESTORE, Client.VALIDATOR);
+
+        routes
+            .get(PATH, GymFunction::doGet, prepare)
+            .post(PATH, Middlewares.body(GymCreateRequest.class, GymFunction::doPost), prepare, Middlewares.jsonContentType(), Middlewares.userId())
+            .put(PATH, Middlewares.body(GymEditRequest.class, GymFunction::doPut), prepare, Middlewares.jsonContentType(), Middlewares.userId());
     }
 
     private static void doGet(HttpRequest request, HttpResponse response) {
 
         var ids = Objects.requireNonNullElse(request.getQueryParameters().get("ids"), new ArrayList<String>());
 
-        var found = find(ids);
+        if(ETagService.hasIfNoneMatch(request)) {
 
-        ResponseService.writeResponse(response, found);
-        ResponseService.fillResponseWithStatus(response, HttpStatus.OK);
-    }
+            var current = GymService.findETag(ids);
+
+            if(ETagService.isNotModified(request, current)) {
+
+                ResponseService.answerNotModified(request, response, current);
+                return;
+            }
+        }
 
-    private static void doPost(HttpRequest request, HttpResponse response) {
+        var found = find(ids);
+
+        var etag = ETagService.fromVersions(found, GymResponse::getId, GymResponse::getUpdatedAt);
 
-        CheckRequestContentTypeService.checkApplicationJsonContentType(request);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.OK);
+        ResponseService.setETag(response, etag);
+        ResponseService.writeResponse(request, response, found);
+    }
 
-        var dto = ReadRequestService.getBody(request, GymCreateRequest.class);
+    private static void doPost(HttpRequest request, HttpResponse response, GymCreateRequest dto) {
 
         CheckConstraintsRequestBodyService.checkConstraints(dto);
 
         var created = create(dto, ReadRequestService.getUserId(request));
 
-        ResponseService.writeResponse(response, created);
-        ResponseService.fillResponseWithStatus(response, HttpStatus.CREATED);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.CREATED);
+        ResponseService.writeResponse(request, response, created);
     }
 
-    private static void doPut(HttpRequest request, HttpResponse response) {
-
-        CheckRequestContentTypeService.checkApplicationJsonContentType(request);
-
-        var dto = ReadRequestService.getBody(request, GymEditRequest.class);
+    private static void doPut(HttpRequest request, HttpResponse response, GymEditRequest dto) {
 
         CheckConstraintsRequestBodyService.checkConstraints(dto);
 
         update(dto, ReadRequestService.getUserId(request));
 
-        ResponseService.fillResponseWithStatus(response, HttpStatus.NO_CONTENT);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.NO_CONTENT);
     }
 
     private static void update(GymEditRequest dto, String gymId) {
 
-        var found = GymService.find(List.of(gymId));
+        var found = GymService.find(List.of(gymId), HydrationLevel.PROFILE);
 
         if(CollectionUtils.isEmpty(found)) {
 
@@ -221,7 +202,7 @@ public class GymFunction implements HttpFunction {
 
     private static GymResponse create(GymCreateRequest dto, String gymId) {
 
-        var found = find(List.of(gymId));
+        var found = GymService.find(List.of(gymId), HydrationLevel.SUMMARY);
 
         if(CollectionUtils.isNotEmpty(found)) {
 
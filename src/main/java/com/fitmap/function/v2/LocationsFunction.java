@@ -1,74 +1,61 @@
 package com.fitmap.function.v2;
 
 import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
-import javax.validation.ConstraintViolationException;
-
+import com.fitmap.function.config.LocationsConfig;
 import com.fitmap.function.config.SystemTimeZoneConfig;
 import com.fitmap.function.domain.Address;
-import com.fitmap.function.domain.Gym;
-import com.fitmap.function.domain.PersonalTrainer;
-import com.fitmap.function.domain.Student;
-import com.fitmap.function.domain.UserType;
+import com.fitmap.function.domain.constants.HydrationLevel;
 import com.fitmap.function.exception.TerminalException;
 import com.fitmap.function.mapper.DtoMapper;
+import com.fitmap.function.route.Middlewares;
+import com.fitmap.function.route.RouteTable;
 import com.fitmap.function.service.AddressService;
 import com.fitmap.function.service.CheckConstraintsRequestBodyService;
-import com.fitmap.function.service.CheckRequestMethodService;
-import com.fitmap.function.service.GymService;
-import com.fitmap.function.service.PersonalTrainerService;
+import com.fitmap.function.service.ColdStartService.Client;
+import com.fitmap.function.service.LocationService;
 import com.fitmap.function.service.ResponseService;
-import com.fitmap.function.service.StudentService;
+import com.fitmap.function.service.WarmUpService;
 import com.google.cloud.functions.HttpFunction;
 import com.google.cloud.functions.HttpRequest;
 import com.google.cloud.functions.HttpResponse;
 
 import org.springframework.http.HttpStatus;
-import org.springframework.http.converter.HttpMessageNotReadableException;
-import org.springframework.web.server.MethodNotAllowedException;
-import org.springframework.web.server.UnsupportedMediaTypeStatusException;
 
 import lombok.extern.java.Log;
 
 @Log
 public class LocationsFunction implements HttpFunction {
 
+    private static final String PATH = "/api/v2/locations";
+
+    private static final RouteTable ROUTES = RouteTable.builder().add(LocationsFunction::routes).build();
+
     public LocationsFunction() {
 
         log.log(Level.INFO, "init LocationsFunction. timestamp=" + ZonedDateTime.now());
         SystemTimeZoneConfig.setUtcDefaultTimeZone();
+        WarmUpService.warmUpIfEnabled();
     }
 
     @Override
     public void service(HttpRequest request, HttpResponse response) throws Exception {
 
-        try {
-
-            final var path = request.getPath();
-
-            switch (path) {
-                case "/api/v2/locations":
-                    doService(request, response);
-                    break;
-                default:
-                    throw new TerminalException("No mapping found for HTTP request path [" + path + "]", HttpStatus.NOT_FOUND);
-            }
+        ROUTES.serve(request, response);
+    }
 
-        } catch (TerminalException e) { ResponseService.answerTerminalException(request, response, e); }
-          catch (MethodNotAllowedException e) { ResponseService.answerMethodNotAllowed(request, response, e); }
-          catch (UnsupportedMediaTypeStatusException e) { ResponseService.answerUnsupportedMediaType(request, response, e); }
-          catch (HttpMessageNotReadableException e) { ResponseService.answerBadRequest(request, response, e); }
-          catch (ConstraintViolationException e) { ResponseService.answerBadRequest(request, response, e); }
-          catch (Exception e) { log.log(Level.SEVERE, e.getMessage(), e); ResponseService.answerInternalServerError(request, response, e); }
+    public static void routes(RouteTable.Builder routes) {
 
+        routes.get(PATH, LocationsFunction::doGet, Middlewares.prepare(Client.OBJECT_MAPPER, Client.REPOSITORIES, Client.FIRESTORE));
     }
 
-    public static void doService(HttpRequest request, HttpResponse response) {
-
-        CheckRequestMethodService.checkGetMethod(request);
+    private static void doGet(HttpRequest request, HttpResponse response) {
 
         var latOpt = request.getFirstQueryParameter("lat");
         var lngOpt = request.getFirstQueryParameter("lng");
@@ -89,106 +76,49 @@ public class LocationsFunction implements HttpFunction {
         var longitude = Double.parseDouble(lngOpt.get());
         var radius = Double.parseDouble(radiusOpt.get());
 
-        var found = AddressService.findAddressesNearBy(latitude, longitude, radius);
-
-        var addressesPerEntityType = found
-            .stream()
-            .filter(a -> {
-
-                if(a == null) {
-                    return false;
-                }
-
-                if(a.getGym() == null && a.getPersonalTrainer() == null && a.getStudent() == null) {
-                    return false;
-                }
-
-                return true;
-            })
-            .collect(Collectors.groupingBy(a -> {
-                if(a.getGym() != null) {
-                    return UserType.GYM;
-                }
+        var hydrationLevel = getHydrationLevel(request);
 
-                if(a.getPersonalTrainer() != null) {
-                    return UserType.PERSONAL_TRAINER;
-                }
+        var found = find(latitude, longitude, radius, hydrationLevel);
 
-                if(a.getStudent() != null) {
-                    return UserType.STUDENT;
-                }
-
-                throw new RuntimeException("address must contain at least a gym, personal trainer or student. addressId = " + a.getId());
-            }));
-
-        var gymsInAddress = addressesPerEntityType.get(UserType.GYM);
-
-        if(gymsInAddress != null) {
+        var responseDto = found
+            .stream()
+            .map(DtoMapper::from)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
 
-            var addressesPerGym = gymsInAddress
-                .stream()
-                .filter(a -> a.getGym() != null)
-                .collect(Collectors.groupingBy(Address::getGym));
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.OK);
+        ResponseService.writeResponse(request, response, responseDto);
+    }
 
-            var gymIds = addressesPerGym
-                .keySet()
-                .stream()
-                .map(Gym::getId)
-                .collect(Collectors.toList());
+    private static List<Address> find(double latitude, double longitude, double radius, HydrationLevel hydrationLevel) {
 
-            var foundGyms = GymService.find(gymIds);
+        if(hydrationLevel == HydrationLevel.PIN) {
 
-            foundGyms.forEach(gym -> addressesPerGym.get(gym).forEach(a -> a.setGym(gym)));
+            return LocationService.pin(AddressService.findAddressesNearBy(latitude, longitude, radius, AddressService.PIN_FIELDS));
         }
 
-        var personalTrainersInAddress = addressesPerEntityType.get(UserType.PERSONAL_TRAINER);
+        var found = AddressService.findAddressesNearBy(latitude, longitude, radius);
 
-        if(personalTrainersInAddress != null) {
+        return LocationService.hydrate(found, hydrationLevel);
+    }
 
-            var addressesPerPersonalTrainer = personalTrainersInAddress
-                .stream()
-                .filter(a -> a.getPersonalTrainer() != null)
-                .collect(Collectors.groupingBy(Address::getPersonalTrainer));
+    private static HydrationLevel getHydrationLevel(HttpRequest request) {
 
-            var personalTrainerIds = addressesPerPersonalTrainer
-                .keySet()
-                .stream()
-                .map(PersonalTrainer::getId)
-                .collect(Collectors.toList());
+        var hydrationOpt = request.getFirstQueryParameter("hydration");
 
-            var foundPersonalTrainers = PersonalTrainerService.find(personalTrainerIds);
+        if(hydrationOpt.isEmpty()) {
 
-            foundPersonalTrainers.forEach(personalTrainer -> addressesPerPersonalTrainer.get(personalTrainer).forEach(a -> a.setPersonalTrainer(personalTrainer)));
+            return LocationsConfig.DEFAULT_HYDRATION_LEVEL;
         }
 
-        var studentsInAddress = addressesPerEntityType.get(UserType.STUDENT);
-
-        if(studentsInAddress != null) {
-
-            var addressesPerStudent = studentsInAddress
-                .stream()
-                .filter(a -> a.getStudent() != null)
-                .collect(Collectors.groupingBy(Address::getStudent));
+        try {
 
-            var studentIds = addressesPerStudent
-                .keySet()
-                .stream()
-                .map(Student::getId)
-                .collect(Collectors.toList());
+            return HydrationLevel.valueOf(hydrationOpt.get().toUpperCase(Locale.ROOT));
 
-            var foundStudents = StudentService.find(studentIds);
+        } catch (IllegalArgumentException e) {
 
-            foundStudents.forEach(student -> addressesPerStudent.get(student).forEach(a -> a.setStudent(student)));
+            throw new TerminalException("The param [hydration] must be one of " + Arrays.toString(HydrationLevel.values()) + ".", HttpStatus.BAD_REQUEST);
         }
-
-        var responseDto = found
-            .stream()
-            .map(DtoMapper::from)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
-
-        ResponseService.writeResponse(response, responseDto);
-        ResponseService.fillResponseWithStatus(response, HttpStatus.OK);
     }
 
 }
@@ -0,0 +1,61 @@
+package com.fitmap.function.v2;
+
+import java.time.ZonedDateTime;
+import java.util.logging.Level;
+
+import com.fitmap.function.config.OutboxConfig;
+import com.fitmap.function.config.OutboxDrainConfig;
+import com.fitmap.function.config.SystemTimeZoneConfig;
+import com.fitmap.function.route.Middlewares;
+import com.fitmap.function.route.RouteTable;
+import com.fitmap.function.service.ColdStartService.Client;
+import com.fitmap.function.service.OutboxService;
+import com.fitmap.function.service.ResponseService;
+import com.fitmap.function.service.WarmUpService;
+import com.fitmap.function.v2.payload.response.OutboxDrainResponse;
+import com.google.cloud.functions.HttpFunction;
+import com.google.cloud.functions.HttpRequest;
+import com.google.cloud.functions.HttpResponse;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.http.HttpStatus;
+
+import lombok.extern.java.Log;
+
+@Log
+public class OutboxFunction implements HttpFunction {
+
+    private static final String PATH = "/api/v2/outbox/drain";
+
+    private static final RouteTable ROUTES = RouteTable.builder().add(OutboxFunction::routes).build();
+
+    public OutboxFunction() {
+
+        log.log(Level.INFO, "init OutboxFunction. timestamp=" + ZonedDateTime.now());
+        SystemTimeZoneConfig.setUtcDefaultTimeZone();
+        WarmUpService.warmUpIfEnabled();
+    }
+
+    @Override
+    public void service(HttpRequest request, HttpResponse response) throws Exception {
+
+        ROUTES.serve(request, response);
+    }
+
+    public static void routes(RouteTable.Builder routes) {
+
+        routes.post(PATH, OutboxFunction::doPost,
+            Middlewares.serviceAccount(OutboxDrainConfig.AUDIENCE, OutboxDrainConfig.INVOKER), Middlewares.prepare(Client.OBJECT_MAPPER, Client.FIRESTORE));
+    }
+
+    private static void doPost(HttpRequest request, HttpResponse response) {
+
+        var limit = request.getFirstQueryParameter("limit").map(NumberUtils::toInt).filter(l -> l > 0).orElse(OutboxConfig.DRAIN_LIMIT);
+
+        var delivered = OutboxService.drain(limit);
+
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.OK);
+        ResponseService.writeResponse(request, response, new OutboxDrainResponse(OutboxConfig.OUTBOX_MODE, delivered));
+    }
+
+}
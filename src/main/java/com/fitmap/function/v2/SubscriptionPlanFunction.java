@@ -5,91 +5,65 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Level;
 
-import javax.validation.ConstraintViolationException;
-
 import com.fitmap.function.config.SystemTimeZoneConfig;
 import com.fitmap.function.domain.Gym;
 import com.fitmap.function.domain.PersonalTrainer;
 import com.fitmap.function.domain.SubscriptionPlan;
-import com.fitmap.function.exception.TerminalException;
 import com.fitmap.function.mapper.DtoMapper;
+import com.fitmap.function.route.Middlewares;
+import com.fitmap.function.route.RouteTable;
 import com.fitmap.function.service.CheckConstraintsRequestBodyService;
-import com.fitmap.function.service.CheckRequestContentTypeService;
+import com.fitmap.function.service.ColdStartService.Client;
 import com.fitmap.function.service.ReadRequestService;
 import com.fitmap.function.service.ResponseService;
 import com.fitmap.function.service.SubscriptionPlanService;
-import com.fitmap.function.util.Constants;
+import com.fitmap.function.service.WarmUpService;
 import com.fitmap.function.v2.payload.request.SubscriptionPlanCreateRequest;
 import com.fitmap.function.v2.payload.request.SubscriptionPlanEditRequest;
 import com.google.cloud.functions.HttpFunction;
 import com.google.cloud.functions.HttpRequest;
 import com.google.cloud.functions.HttpResponse;
 
-import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.converter.HttpMessageNotReadableException;
-import org.springframework.web.server.MethodNotAllowedException;
-import org.springframework.web.server.UnsupportedMediaTypeStatusException;
 
 import lombok.extern.java.Log;
 
 @Log
 public class SubscriptionPlanFunction implements HttpFunction {
 
+    private static final String GYM_PATH = "/api/v2/gym/subscription-plans";
+    private static final String PERSONAL_TRAINER_PATH = "/api/v2/personal-trainer/subscription-plans";
+
+    private static final RouteTable ROUTES = RouteTable.builder().add(SubscriptionPlanFunction::routes).build();
+
     public SubscriptionPlanFunction() {
 
         log.log(Level.INFO, "init SubscriptionPlanFunction. timestamp=" + ZonedDateTime.now());
         SystemTimeZoneConfig.setUtcDefaultTimeZone();
+        WarmUpService.warmUpIfEnabled();
     }
 
     @Override
     public void service(HttpRequest request, HttpResponse response) throws Exception {
 
-        try {
-
-            final var path = request.getPath();
-
-            switch (path) {
-                case "/api/v2/gym/subscription-plans":
-                    doService(request, response, Gym.GYMS_COLLECTION);
-                    break;
-                case "/api/v2/personal-trainer/subscription-plans":
-                    doService(request, response, PersonalTrainer.PERSONAL_TRAINERS_COLLECTION);
-                    break;
-                default:
-                    throw new TerminalException("No mapping found for HTTP request path [" + path + "]", HttpStatus.NOT_FOUND);
-            }
+        ROUTES.serve(request, response);
+    }
 
-        } catch (TerminalException e) { ResponseService.answerTerminalException(request, response, e); }
-          catch (MethodNotAllowedException e) { ResponseService.answerMethodNotAllowed(request, response, e); }
-          catch (UnsupportedMediaTypeStatusException e) { ResponseService.answerUnsupportedMediaType(request, response, e); }
-          catch (HttpMessageNotReadableException e) { ResponseService.answerBadRequest(request, response, e); }
-          catch (ConstraintViolationException e) { ResponseService.answerBadRequest(request, response, e); }
-          catch (Exception e) { log.log(Level.SEVERE, e.getMessage(), e); ResponseService.answerInternalServerError(request, response, e); }
+    public static void routes(RouteTable.Builder routes) {
 
+        routes(routes, GYM_PATH, Gym.GYMS_COLLECTION);
+        routes(routes, PERSONAL_TRAINER_PATH, PersonalTrainer.PERSONAL_TRAINERS_COLLECTION);
     }
 
-    public static void doService(HttpRequest request, HttpResponse response, String superCollection) {
-
-        var requestMethod = HttpMethod.resolve(request.getMethod());
-
-        switch (HttpMethod.resolve(request.getMethod())) {
-            case GET:
-                doGet(request, response, superCollection);
-                break;
-            case POST:
-                doPost(request, response, superCollection);
-                break;
-            case PUT:
-                doPut(request, response, superCollection);
-                break;
-            case DELETE:
-                doDelete(request, response, superCollection);
-                break;
-            default:
-                throw new MethodNotAllowedException(requestMethod, Constants.CRUD_HTTP_METHODS);
-        }
+    private static void routes(RouteTable.Builder routes, String path, String superCollection) {
 
+        var prepare = Middlewares.prepare(Client.OBJECT_MAPPER, Client.REPOSITORIES, Client.FIRESTORE, Client.VALIDATOR);
+
+        routes
+            .get(path, (request, response) -> doGet(request, response, superCollection), prepare, Middlewares.userId())
+            .post(path, Middlewares.body(SubscriptionPlanCreateRequest[].class, (request, response, dto) -> doPost(request, response, dto, superCollection)), prepare, Middlewares.jsonContentType(), Middlewares.userId())
+            .put(path, Middlewares.body(SubscriptionPlanEditRequest[].class, (request, response, dto) -> doPut(request, response, dto, superCollection)), prepare, Middlewares.jsonContentType(), Middlewares.userId())
+            .delete(path, Middlewares.body(String[].class, (request, response, dto) -> doDelete(request, response, dto, superCollection)), prepare, Middlewares.jsonContentType(), Middlewares.userId());
     }
 
     private static void doGet(HttpRequest request, HttpResponse response, String superCollection) {
@@ -98,8 +72,8 @@ public class SubscriptionPlanFunction implements HttpFunction {
 
         var found = find(userId, superCollection);
 
-        ResponseService.writeResponse(response, found);
-        ResponseService.fillResponseWithStatus(response, HttpStatus.OK);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.OK);
+        ResponseService.writeResponse(request, response, found);
     }
 
     private static List<SubscriptionPlan> find(String superEntityId, String superCollection) {
@@ -107,11 +81,7 @@ public class SubscriptionPlanFunction implements HttpFunction {
         return SubscriptionPlanService.find(superEntityId, superCollection);
     }
 
-    private static void doPost(HttpRequest request, HttpResponse response, String superCollection) {
-
-        CheckRequestContentTypeService.checkApplicationJsonContentType(request);
-
-        var dto = ReadRequestService.getBody(request, SubscriptionPlanCreateRequest[].class);
+    private static void doPost(HttpRequest request, HttpResponse response, SubscriptionPlanCreateRequest[] dto, String superCollection) {
 
         CheckConstraintsRequestBodyService.checkNotEmpty(dto);
 
@@ -121,8 +91,8 @@ public class SubscriptionPlanFunction implements HttpFunction {
 
         var created = create(Arrays.asList(dto), ReadRequestService.getUserId(request), superCollection);
 
-        ResponseService.writeResponse(response, created);
-        ResponseService.fillResponseWithStatus(response, HttpStatus.CREATED);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.CREATED);
+        ResponseService.writeResponse(request, response, created);
     }
 
     private static List<SubscriptionPlan> create(List<SubscriptionPlanCreateRequest> dtos, String superEntityId, String superCollection) {
@@ -132,11 +102,7 @@ public class SubscriptionPlanFunction implements HttpFunction {
         return SubscriptionPlanService.create(superEntityId, superCollection, subEntities);
     }
 
-    private static void doPut(HttpRequest request, HttpResponse response, String superCollection) {
-
-        CheckRequestContentTypeService.checkApplicationJsonContentType(request);
-
-        var dto = ReadRequestService.getBody(request, SubscriptionPlanEditRequest[].class);
+    private static void doPut(HttpRequest request, HttpResponse response, SubscriptionPlanEditRequest[] dto, String superCollection) {
 
         CheckConstraintsRequestBodyService.checkNotEmpty(dto);
 
@@ -146,7 +112,7 @@ public class SubscriptionPlanFunction implements HttpFunction {
 
         edit(Arrays.asList(dto), ReadRequestService.getUserId(request), superCollection);
 
-        ResponseService.fillResponseWithStatus(response, HttpStatus.NO_CONTENT);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.NO_CONTENT);
     }
 
     private static List<SubscriptionPlan> edit(List<SubscriptionPlanEditRequest> dtos, String superEntityId, String superCollection) {
@@ -156,11 +122,7 @@ public class SubscriptionPlanFunction implements HttpFunction {
         return SubscriptionPlanService.edit(superEntityId, superCollection, subEntities);
     }
 
-    private static void doDelete(HttpRequest request, HttpResponse response, String superCollection) {
-
-        CheckRequestContentTypeService.checkApplicationJsonContentType(request);
-
-        var dto = ReadRequestService.getBody(request, String[].class);
+    private static void doDelete(HttpRequest request, HttpResponse response, String[] dto, String superCollection) {
 
         CheckConstraintsRequestBodyService.checkNotEmpty(dto);
 
@@ -168,7 +130,7 @@ public class SubscriptionPlanFunction implements HttpFunction {
 
         delete(Arrays.asList(dto), userId, superCollection);
 
-        ResponseService.fillResponseWithStatus(response, HttpStatus.NO_CONTENT);
+        ResponseService.fillResponseWithStatus(request, response, HttpStatus.NO_CONTENT);
     }
 
     private static void delete(List<String> subscriptionPlansIds, String superEntityId, String superCollection) {
@@ -0,0 +1,80 @@
+package com.fitmap.function.v2.payload;
+
+import java.util.List;
+
+import com.fitmap.function.domain.Event;
+import com.fitmap.function.domain.Fight;
+import com.fitmap.function.domain.Focus;
+import com.fitmap.function.domain.Sport;
+import com.fitmap.function.domain.SubscriptionPlan;
+import com.fitmap.function.v2.payload.request.AddressRequest;
+import com.fitmap.function.v2.payload.request.ContactRequest;
+import com.fitmap.function.v2.payload.request.EventCreateRequest;
+import com.fitmap.function.v2.payload.request.EventEditRequest;
+import com.fitmap.function.v2.payload.request.FightCreateRequest;
+import com.fitmap.function.v2.payload.request.FocusCreateRequest;
+import com.fitmap.function.v2.payload.request.GymCreateRequest;
+import com.fitmap.function.v2.payload.request.GymEditRequest;
+import com.fitmap.function.v2.payload.request.PersonalTrainerCreateRequest;
+import com.fitmap.function.v2.payload.request.PersonalTrainerEditRequest;
+import com.fitmap.function.v2.payload.request.SendResetPasswordEmailRequest;
+import com.fitmap.function.v2.payload.request.SendVerificationEmailRequest;
+import com.fitmap.function.v2.payload.request.SetRolesRequest;
+import com.fitmap.function.v2.payload.request.SportCreateRequest;
+import com.fitmap.function.v2.payload.request.StudentCreateRequest;
+import com.fitmap.function.v2.payload.request.StudentEditRequest;
+import com.fitmap.function.v2.payload.request.SubscriptionPlanCreateRequest;
+import com.fitmap.function.v2.payload.request.SubscriptionPlanEditRequest;
+import com.fitmap.function.v2.payload.response.ErrorResponse;
+import com.fitmap.function.v2.payload.response.GymResponse;
+import com.fitmap.function.v2.payload.response.LocationResponse;
+import com.fitmap.function.v2.payload.response.OutboxDrainResponse;
+import com.fitmap.function.v2.payload.response.PersonalTrainerResponse;
+import com.fitmap.function.v2.payload.response.StudentResponse;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PayloadTypes {
+
+    public static final List<Class<?>> REQUEST_TYPES = List.of(
+        AddressRequest.class,
+        ContactRequest.class,
+        EventCreateRequest[].class,
+        EventEditRequest[].class,
+        FightCreateRequest[].class,
+        Fight[].class,
+        FocusCreateRequest[].class,
+        Focus[].class,
+        GymCreateRequest.class,
+        GymEditRequest.class,
+        PersonalTrainerCreateRequest.class,
+        PersonalTrainerEditRequest.class,
+        SendResetPasswordEmailRequest.class,
+        SendVerificationEmailRequest.class,
+        SetRolesRequest.class,
+        SportCreateRequest[].class,
+        Sport[].class,
+        String[].class,
+        StudentCreateRequest.class,
+        StudentEditRequest.class,
+        SubscriptionPlanCreateRequest[].class,
+        SubscriptionPlanEditRequest[].class
+    );
+
+    public static final List<Class<?>> RESPONSE_TYPES = List.of(
+        ErrorResponse.class,
+        GymResponse.class,
+        LocationResponse.class,
+        OutboxDrainResponse.class,
+        PersonalTrainerResponse.class,
+        StudentResponse.class,
+        Event.class,
+        Fight.class,
+        Focus.class,
+        Sport.class,
+        SubscriptionPlan.class
+    );
+
+}
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.fitmap.function.domain.Event;
+import com.fitmap.function.domain.Pin;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -39,5 +40,6 @@ public class LocationResponse {
     private PersonalTrainerResponse personalTrainer;
     private StudentResponse student;
     private List<Event> events;
+    private Pin pin;
 
 }
@@ -0,0 +1,28 @@
+package com.fitmap.function.v2.payload.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Builder
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(value = Include.NON_NULL)
+@JsonNaming(value = SnakeCaseStrategy.class)
+public class OutboxDrainResponse {
+
+    private String mode;
+    private int delivered;
+
+}
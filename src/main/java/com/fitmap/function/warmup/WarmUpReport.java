@@ -0,0 +1,49 @@
+package com.fitmap.function.warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+public class WarmUpReport {
+
+    private final long budgetMillis;
+    private long elapsedMillis;
+    private final Map<String, Long> warmedMillis = new LinkedHashMap<>();
+    private final Map<String, String> failed = new LinkedHashMap<>();
+    private final List<String> skipped = new ArrayList<>();
+    @ToString.Exclude
+    private boolean closed;
+
+    public WarmUpReport(long budgetMillis) {
+        this.budgetMillis = budgetMillis;
+    }
+
+    public synchronized void warmed(String target, long millis) {
+
+        if(!closed) {
+            warmedMillis.put(target, millis);
+        }
+    }
+
+    public synchronized void failed(String target, Throwable cause) {
+
+        if(!closed) {
+            failed.put(target, cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        }
+    }
+
+    public synchronized void close(List<String> targets, long elapsedMillis) {
+
+        targets.stream().filter(target -> !warmedMillis.containsKey(target) && !failed.containsKey(target)).forEach(skipped::add);
+
+        this.elapsedMillis = elapsedMillis;
+        this.closed = true;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.fitmap.function.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class OutboxConfigTest {
+
+    @ParameterizedTest(name = "[{0}] -> {1}")
+    @CsvSource({
+        "local,     com.fitmap.function.outbox.LocalOutbox",
+        "LOCAL,     com.fitmap.function.outbox.LocalOutbox",
+        "firestore, com.fitmap.function.outbox.FirestoreOutbox",
+        "Firestore, com.fitmap.function.outbox.FirestoreOutbox",
+    })
+    void modeSelectsTheOutbox(String mode, Class<?> expected) {
+
+        assertThat(OutboxConfig.createOutbox(mode)).isExactlyInstanceOf(expected);
+    }
+
+    @ParameterizedTest(name = "[{0}] -> sync")
+    @NullAndEmptySource
+    @ValueSource(strings = { "sync", "pubsub" })
+    void syncOrUnknownModeUsesNoOutbox(String mode) {
+
+        assertThat(OutboxConfig.createOutbox(mode)).isNull();
+    }
+
+}
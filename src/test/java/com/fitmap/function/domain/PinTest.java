@@ -0,0 +1,61 @@
+package com.fitmap.function.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PinTest {
+
+    private static final Date UPDATED_AT = new Date(1_600_000_000_000L);
+
+    private static final Map<String, Object> EVERY_OWNER_FIELD = Map.of(
+        PersonalTrainer.PROFILE_NAME, "name",
+        PersonalTrainer.GALLERY_PICTURES_URLS, List.of("https://pictures/a.png"),
+        PersonalTrainer.SPORTS, List.of("boxing"),
+        PersonalTrainer.FOCUS, List.of("strength"),
+        PersonalTrainer.FIGHTS, List.of("judo"),
+        PersonalTrainer.ONLINE_SERVICE, true,
+        PersonalTrainer.HOME_SERVICE, false,
+        PersonalTrainer.UPDATED_AT, UPDATED_AT,
+        PersonalTrainer.BIOGRAPHY, "biography");
+
+    @Test
+    void gymChangesCoverOnlyTheGymPinFields() {
+
+        assertThat(Pin.changesFrom(Address.GYM, EVERY_OWNER_FIELD)).containsOnly(
+            entry(Pin.PROFILE_NAME, "name"),
+            entry(Pin.PICTURE_URL, "https://pictures/a.png"),
+            entry(Pin.SPORTS, List.of("boxing")),
+            entry(Pin.FOCUS, List.of("strength")),
+            entry(Pin.UPDATED_AT, UPDATED_AT));
+    }
+
+    @Test
+    void personalTrainerChangesCoverEveryPinField() {
+
+        assertThat(Pin.changesFrom(Address.PERSONAL_TRAINER, EVERY_OWNER_FIELD)).containsOnly(
+            entry(Pin.PROFILE_NAME, "name"),
+            entry(Pin.PICTURE_URL, "https://pictures/a.png"),
+            entry(Pin.SPORTS, List.of("boxing")),
+            entry(Pin.FOCUS, List.of("strength")),
+            entry(Pin.FIGHTS, List.of("judo")),
+            entry(Pin.ONLINE_SERVICE, true),
+            entry(Pin.HOME_SERVICE, false),
+            entry(Pin.UPDATED_AT, UPDATED_AT));
+    }
+
+    @Test
+    void studentChangesLeaveSportsOut() {
+
+        assertThat(Pin.changesFrom(Address.STUDENT, EVERY_OWNER_FIELD)).containsOnly(
+            entry(Pin.PROFILE_NAME, "name"),
+            entry(Pin.PICTURE_URL, "https://pictures/a.png"),
+            entry(Pin.UPDATED_AT, UPDATED_AT));
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.fitmap.function.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.google.api.core.ApiFutures;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QuerySnapshot;
+import com.google.cloud.firestore.WriteBatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FirestoreOutboxTest {
+
+    private static final String GYM = "gyms_v2/gym";
+    private static final String STUDENT = "students_v2/student";
+
+    private Firestore db;
+    private CollectionReference outbox;
+    private List<String> applied;
+    private List<String> failing;
+    private List<String> olderPending;
+
+    private FirestoreOutbox firestoreOutbox;
+
+    @BeforeEach
+    void setUp() {
+
+        db = mock(Firestore.class);
+        outbox = mock(CollectionReference.class);
+        applied = new CopyOnWriteArrayList<>();
+        failing = new ArrayList<>();
+        olderPending = new ArrayList<>();
+
+        when(db.collection(FirestoreOutbox.OUTBOX_COLLECTION)).thenReturn(outbox);
+        when(db.batch()).thenAnswer(invocation -> {
+            var batch = mock(WriteBatch.class);
+            when(batch.commit()).thenReturn(ApiFutures.immediateFuture(List.of()));
+            return batch;
+        });
+
+        // the pending messages of an owner older than the one being delivered
+        when(outbox.whereEqualTo(eq(FirestoreOutbox.OWNER), anyString())).thenAnswer(invocation -> {
+
+            var owner = (String) invocation.getArgument(1);
+            var older = querySnapshot(olderPending.contains(owner) ? List.of(mock(QueryDocumentSnapshot.class)) : List.of());
+            var query = mock(Query.class);
+
+            when(query.whereLessThan(eq(FirestoreOutbox.CREATED_AT), any())).thenReturn(query);
+            when(query.limit(1)).thenReturn(query);
+            when(query.get()).thenReturn(ApiFutures.immediateFuture(older));
+
+            return query;
+        });
+
+        firestoreOutbox = new FirestoreOutbox(db, (message, batches) -> {
+            if(failing.contains(message.getId())) {
+                throw new IllegalStateException("UNAVAILABLE");
+            }
+            applied.add(message.getId());
+        }, 1, Duration.ZERO, Duration.ZERO);
+    }
+
+    @Test
+    void messageIsAppliedWhenItsOwnerHasNoOlderOnePending() {
+
+        var message = pending("gym-1", GYM);
+
+        assertThat(firestoreOutbox.deliver(message)).isTrue();
+        assertThat(applied).containsExactly("gym-1");
+    }
+
+    @Test
+    void messageIsHeldBackBehindAnOlderOneOfItsOwner() {
+
+        olderPending.add(GYM);
+
+        var message = pending("gym-2", GYM);
+
+        assertThat(firestoreOutbox.deliver(message)).isFalse();
+        assertThat(applied).isEmpty();
+        verify(db, never()).batch();
+    }
+
+    @Test
+    void messageWithoutOwnerIsNotOrdered() {
+
+        var message = pending("copies", null);
+
+        assertThat(firestoreOutbox.deliver(message)).isTrue();
+        assertThat(applied).containsExactly("copies");
+        verify(outbox, never()).whereEqualTo(anyString(), any());
+    }
+
+    @Test
+    void drainStopsReplayingAnOwnerAfterItsFirstMessageFails() {
+
+        var gym1 = pending("gym-1", GYM);
+        var gym2 = pending("gym-2", GYM);
+        var student1 = pending("student-1", STUDENT);
+
+        failing.add("gym-1");
+
+        var docs = querySnapshot(List.of(document(gym1), document(gym2), document(student1)));
+        var drainQuery = mock(Query.class);
+        when(outbox.whereLessThan(eq(FirestoreOutbox.CREATED_AT), any())).thenReturn(drainQuery);
+        when(drainQuery.orderBy(eq(FirestoreOutbox.CREATED_AT), any(Query.Direction.class))).thenReturn(drainQuery);
+        when(drainQuery.limit(anyInt())).thenReturn(drainQuery);
+        when(drainQuery.get()).thenReturn(ApiFutures.immediateFuture(docs));
+
+        assertThat(firestoreOutbox.drain(10)).isEqualTo(1);
+        assertThat(applied).containsExactly("student-1");
+    }
+
+    private OutboxMessage pending(String id, String owner) {
+
+        var message = OutboxMessage.of(owner, List.of(CopyWrite.update(GYM + "/addresses_v2/address", Map.of("main_address", true))));
+        message.setId(id);
+
+        var snapshot = mock(DocumentSnapshot.class);
+        when(snapshot.exists()).thenReturn(true);
+        when(snapshot.getString(FirestoreOutbox.OWNER)).thenReturn(owner);
+        when(snapshot.getTimestamp(FirestoreOutbox.CREATED_AT)).thenReturn(Timestamp.now());
+        when(snapshot.getUpdateTime()).thenReturn(Timestamp.now());
+
+        var docRef = mock(DocumentReference.class);
+        when(docRef.get()).thenReturn(ApiFutures.immediateFuture(snapshot));
+        when(outbox.document(id)).thenReturn(docRef);
+
+        return message;
+    }
+
+    private static QueryDocumentSnapshot document(OutboxMessage message) {
+
+        var doc = mock(QueryDocumentSnapshot.class);
+        when(doc.toObject(OutboxMessage.class)).thenReturn(message);
+
+        return doc;
+    }
+
+    private static QuerySnapshot querySnapshot(List<QueryDocumentSnapshot> docs) {
+
+        var snapshot = mock(QuerySnapshot.class);
+        when(snapshot.getDocuments()).thenReturn(docs);
+        when(snapshot.isEmpty()).thenReturn(docs.isEmpty());
+
+        return snapshot;
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.fitmap.function.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+class LocalOutboxTest {
+
+    @Test
+    void drainReportsOnlyTheMessagesActuallyApplied() {
+
+        var applied = new CopyOnWriteArrayList<String>();
+
+        var outbox = new LocalOutbox(message -> {
+            if(message.getId().equals("broken")) {
+                throw new IllegalStateException("boom");
+            }
+            return applied.add(message.getId());
+        }, 1, Duration.ZERO);
+
+        outbox.publish(message("a"));
+        outbox.publish(message("broken"));
+        outbox.publish(message("b"));
+
+        assertThat(outbox.drain(10)).isEqualTo(2);
+        assertThat(applied).containsExactly("a", "b");
+
+        assertThat(outbox.drain(10)).isZero();
+    }
+
+    @Test
+    void messageSkippedByTheDelivererIsNotCounted() {
+
+        var outbox = new LocalOutbox(message -> false, 1, Duration.ZERO);
+
+        outbox.publish(message("a"));
+
+        assertThat(outbox.drain(10)).isZero();
+    }
+
+    @Test
+    void republishedMessageIsAppliedOnce() {
+
+        var applied = new CopyOnWriteArrayList<String>();
+
+        var outbox = new LocalOutbox(message -> applied.add(message.getId()), 1, Duration.ZERO);
+
+        outbox.publish(message("a"));
+        outbox.publish(message("a"));
+
+        assertThat(outbox.drain(10)).isEqualTo(1);
+        assertThat(applied).containsExactly("a");
+    }
+
+    @Test
+    void failedDeliveryIsRetriedUpToMaxAttempts() {
+
+        var attempts = new CopyOnWriteArrayList<String>();
+
+        var outbox = new LocalOutbox(message -> {
+            attempts.add(message.getId());
+            if(attempts.size() < 3) {
+                throw new IllegalStateException("boom");
+            }
+            return true;
+        }, 3, Duration.ofMillis(1));
+
+        outbox.publish(message("a"));
+
+        assertThat(outbox.drain(10)).isEqualTo(1);
+        assertThat(attempts).hasSize(3);
+    }
+
+    private static OutboxMessage message(String id) {
+
+        return new OutboxMessage(id, null, null, List.of());
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.fitmap.function.repository.firestore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QuerySnapshot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BatchedIdLookupTest {
+
+    private CollectionReference collRef;
+    private Query projected;
+    private List<List<Object>> chunks;
+
+    @BeforeEach
+    void setUp() {
+
+        collRef = mock(CollectionReference.class);
+        projected = mock(Query.class);
+        chunks = new ArrayList<>();
+
+        when(collRef.select("id", "profile_name")).thenReturn(projected);
+        answerWhereIn(collRef);
+        answerWhereIn(projected);
+    }
+
+    @Test
+    void idsAreQueriedInChunksOfTheWhereInLimit() throws Exception {
+
+        var ids = ids(23);
+
+        var found = BatchedIdLookup.findByIds(collRef, ids).get();
+
+        assertThat(chunks).extracting(List::size).containsExactly(10, 10, 3);
+        assertThat(found).extracting(QueryDocumentSnapshot::getId).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void blankAndRepeatedIdsAreDroppedBeforeChunking() throws Exception {
+
+        var ids = new ArrayList<>(ids(10));
+        ids.add("gym-0");
+        ids.add(" ");
+        ids.add(null);
+
+        var found = BatchedIdLookup.findByIds(collRef, ids).get();
+
+        assertThat(chunks).hasSize(1);
+        assertThat(found).hasSize(10);
+    }
+
+    @Test
+    void fieldsAreProjectedOnEveryChunk() throws Exception {
+
+        BatchedIdLookup.findByIds(collRef, ids(11), "id", "profile_name").get();
+
+        verify(projected, times(2)).whereIn(eq(FieldPath.documentId()), anyList());
+        verify(collRef, never()).whereIn(any(FieldPath.class), anyList());
+    }
+
+    @Test
+    void noIdsMeansNoQuery() throws Exception {
+
+        assertThat(BatchedIdLookup.findByIds(collRef, List.of()).get()).isEmpty();
+        assertThat(BatchedIdLookup.findByIds(collRef, List.of(" ")).get()).isEmpty();
+        assertThat(chunks).isEmpty();
+    }
+
+    // every chunk answers with its ids in reverse, the lookup must restore the requested order
+    @SuppressWarnings("unchecked")
+    private void answerWhereIn(Query query) {
+
+        when(query.whereIn(any(FieldPath.class), anyList())).thenAnswer(invocation -> {
+
+            var chunk = (List<Object>) invocation.getArgument(1);
+            chunks.add(chunk);
+
+            var docs = new ArrayList<QueryDocumentSnapshot>();
+            chunk.forEach(id -> docs.add(0, document((String) id)));
+
+            var snapshot = mock(QuerySnapshot.class);
+            when(snapshot.getDocuments()).thenReturn(docs);
+
+            var chunkQuery = mock(Query.class);
+            when(chunkQuery.get()).thenReturn(ApiFutures.immediateFuture(snapshot));
+
+            return chunkQuery;
+        });
+    }
+
+    private static QueryDocumentSnapshot document(String id) {
+
+        var doc = mock(QueryDocumentSnapshot.class);
+        when(doc.getId()).thenReturn(id);
+
+        return doc;
+    }
+
+    private static List<String> ids(int amount) {
+
+        return IntStream.range(0, amount).mapToObj(i -> "gym-" + i).collect(Collectors.toList());
+    }
+
+}
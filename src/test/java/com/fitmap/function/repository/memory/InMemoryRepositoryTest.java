@@ -0,0 +1,79 @@
+package com.fitmap.function.repository.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import com.fitmap.function.domain.Address;
+import com.fitmap.function.domain.Gym;
+import com.fitmap.function.service.AddressService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRepositoryTest {
+
+    private static final Date UPDATED_AT = new Date(1_600_000_000_000L);
+
+    private InMemoryStore store;
+
+    @BeforeEach
+    void setUp() {
+
+        store = new InMemoryStore(Duration.ZERO);
+
+        store.saveGym(Gym
+            .builder()
+            .id("gym")
+            .profileName("Gym")
+            .biography("biography")
+            .sports(null)
+            .focus(List.of("strength"))
+            .addresses(List.of(Address.builder().id("address").addressText("Rua A, 1").mainAddress(true).latitude("-23.5505").longitude("-46.6333").geoHash("6gyf4bf").build()))
+            .createdAt(UPDATED_AT)
+            .updatedAt(UPDATED_AT)
+            .build());
+    }
+
+    @Test
+    void masterAddressScanKeepsOnlyTheSelectedFields() throws Exception {
+
+        var address = new InMemoryAddressRepository(store).findMasterByGeoHashRange("6gyf", "6gyg", location -> true, AddressService.PIN_FIELDS).get().get(0);
+
+        assertThat(address.getAddressText()).isEqualTo("Rua A, 1");
+        assertThat(address.getPin()).isNotNull();
+        assertThat(address.getGym().getId()).isEqualTo("gym");
+        assertThat(address.getGym().getProfileName()).isNull();
+        assertThat(address.getGym().getBiography()).isNull();
+    }
+
+    @Test
+    void masterAddressScanWithoutFieldsReturnsTheWholeDocument() throws Exception {
+
+        var address = new InMemoryAddressRepository(store).findMasterByGeoHashRange("6gyf", "6gyg", location -> true).get().get(0);
+
+        assertThat(address.getGym().getProfileName()).isEqualTo("Gym");
+    }
+
+    @Test
+    void nullListsStayNullLikeAFirestoreRead() throws Exception {
+
+        var gym = new InMemoryGymRepository(store).findByIds(List.of("gym")).get().get(0);
+
+        assertThat(gym.getSports()).isNull();
+        assertThat(gym.getFocus()).containsExactly("strength");
+    }
+
+    @Test
+    void projectedGymReadsOnlyTheSelectedFields() throws Exception {
+
+        var gym = new InMemoryGymRepository(store).findByIds(List.of("gym"), Gym.ID, Gym.PROFILE_NAME).get().get(0);
+
+        assertThat(gym.getProfileName()).isEqualTo("Gym");
+        assertThat(gym.getBiography()).isNull();
+        assertThat(gym.getUpdatedAt()).isNull();
+    }
+
+}
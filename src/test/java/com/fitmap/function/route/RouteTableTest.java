@@ -0,0 +1,155 @@
+package com.fitmap.function.route;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fitmap.function.config.CachePolicyConfig;
+import com.fitmap.function.domain.Sport;
+import com.fitmap.function.exception.TerminalException;
+import com.fitmap.function.service.CheckConstraintsRequestBodyService;
+import com.fitmap.function.service.ResponseService;
+import com.google.cloud.functions.HttpRequest;
+import com.google.cloud.functions.HttpResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+class RouteTableTest {
+
+    private static final String PATH = "/api/v2/sport";
+    private static final String ETAG = "W/\"catalog\"";
+
+    private HttpResponse response;
+    private ByteArrayOutputStream body;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        body = new ByteArrayOutputStream();
+        response = mock(HttpResponse.class);
+
+        when(response.getOutputStream()).thenReturn(body);
+        when(response.getHeaders()).thenReturn(Map.of());
+    }
+
+    @Test
+    void successfulGetCarriesOneCacheControlWithThePathPolicy() {
+
+        serve("GET", (request, response) -> {
+            ResponseService.fillResponseWithStatus(request, response, HttpStatus.OK);
+            ResponseService.setETag(response, ETAG);
+            ResponseService.writeResponse(request, response, Map.of("name", "boxing"));
+        });
+
+        verify(response).setStatusCode(HttpStatus.OK.value());
+        verify(response, times(1)).appendHeader(eq(HttpHeaders.CACHE_CONTROL), anyString());
+        verify(response).appendHeader(HttpHeaders.CACHE_CONTROL, CachePolicyConfig.CATALOG_CACHE_CONTROL);
+        verify(response).appendHeader(HttpHeaders.ETAG, ETAG);
+    }
+
+    @Test
+    void notModifiedCarriesTheCachePolicyAndTheETagWithoutBody() {
+
+        serve("GET", (request, response) -> ResponseService.answerNotModified(request, response, ETAG));
+
+        verify(response).setStatusCode(HttpStatus.NOT_MODIFIED.value());
+        verify(response).appendHeader(HttpHeaders.CACHE_CONTROL, CachePolicyConfig.CATALOG_CACHE_CONTROL);
+        verify(response).appendHeader(HttpHeaders.ETAG, ETAG);
+        assertThat(body.size()).isZero();
+    }
+
+    @Test
+    void errorAfterTheSuccessHeadersAnswersWithNoStoreAndNoETag() {
+
+        serve("GET", (request, response) -> {
+            ResponseService.fillResponseWithStatus(request, response, HttpStatus.OK);
+            ResponseService.setETag(response, ETAG);
+            throw new TerminalException("Sport not found.", HttpStatus.NOT_FOUND);
+        });
+
+        verify(response).setStatusCode(HttpStatus.NOT_FOUND.value());
+        verify(response, times(1)).appendHeader(eq(HttpHeaders.CACHE_CONTROL), anyString());
+        verify(response).appendHeader(HttpHeaders.CACHE_CONTROL, CachePolicyConfig.NO_STORE);
+        verify(response, never()).appendHeader(eq(HttpHeaders.ETAG), anyString());
+    }
+
+    @Test
+    void unexpectedErrorIsNoStore() {
+
+        serve("GET", (request, response) -> {
+            ResponseService.fillResponseWithStatus(request, response, HttpStatus.OK);
+            throw new IllegalStateException("boom");
+        });
+
+        verify(response).setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        verify(response, times(1)).appendHeader(eq(HttpHeaders.CACHE_CONTROL), anyString());
+        verify(response).appendHeader(HttpHeaders.CACHE_CONTROL, CachePolicyConfig.NO_STORE);
+    }
+
+    @Test
+    void writesAreNeverCached() {
+
+        serve("POST", (request, response) -> ResponseService.fillResponseWithStatus(request, response, HttpStatus.CREATED));
+
+        verify(response).appendHeader(HttpHeaders.CACHE_CONTROL, CachePolicyConfig.NO_STORE);
+    }
+
+    @Test
+    void arrayBodyWithAnInvalidElementIsBadRequest() throws Exception {
+
+        var request = request("PUT", PATH);
+        var json = "[{\"id\":\"boxing\",\"name\":\"Boxing\",\"type\":\"BOTH\",\"languages\":[\"pt\"]},{\"id\":\" \",\"name\":\"Judo\",\"type\":\"BOTH\",\"languages\":[\"pt\"]}]";
+
+        when(request.getInputStream()).thenReturn(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        RouteTable.builder().put(PATH, Middlewares.body(Sport[].class, (req, res, sports) -> {
+            CheckConstraintsRequestBodyService.checkConstraints(sports);
+            ResponseService.fillResponseWithStatus(req, res, HttpStatus.OK);
+        })).build().serve(request, response);
+
+        verify(response).setStatusCode(HttpStatus.BAD_REQUEST.value());
+        verify(response, never()).setStatusCode(HttpStatus.OK.value());
+    }
+
+    @Test
+    void unknownPathIsNoStore() {
+
+        var request = request("GET", "/api/v2/unknown");
+
+        RouteTable.builder().get(PATH, (req, res) -> { }).build().serve(request, response);
+
+        verify(response).setStatusCode(HttpStatus.NOT_FOUND.value());
+        verify(response).appendHeader(HttpHeaders.CACHE_CONTROL, CachePolicyConfig.NO_STORE);
+    }
+
+    private void serve(String method, Handler handler) {
+
+        RouteTable.builder().get(PATH, handler).post(PATH, handler).build().serve(request(method, PATH), response);
+    }
+
+    private static HttpRequest request(String method, String path) {
+
+        var request = mock(HttpRequest.class);
+
+        when(request.getMethod()).thenReturn(method);
+        when(request.getPath()).thenReturn(path);
+        when(request.getFirstHeader(anyString())).thenReturn(Optional.empty());
+
+        return request;
+    }
+
+}
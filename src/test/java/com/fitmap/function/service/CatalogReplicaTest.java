@@ -0,0 +1,135 @@
+package com.fitmap.function.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import com.google.cloud.firestore.DocumentChange;
+import com.google.cloud.firestore.EventListener;
+import com.google.cloud.firestore.ListenerRegistration;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QuerySnapshot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CatalogReplicaTest {
+
+    private static final Duration FIRST_SNAPSHOT_TIMEOUT = Duration.ofMillis(200);
+
+    private final AtomicReference<EventListener<QuerySnapshot>> listener = new AtomicReference<>();
+    private final AtomicInteger fallbackLoads = new AtomicInteger();
+
+    private Query query;
+    private CatalogReplica<String> replica;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+
+        query = mock(Query.class);
+
+        when(query.addSnapshotListener(any(EventListener.class))).thenAnswer(invocation -> {
+            listener.set(invocation.getArgument(0));
+            return mock(ListenerRegistration.class);
+        });
+
+        var fallback = new CatalogCache<String>(() -> {
+            fallbackLoads.incrementAndGet();
+            return List.of("fallback");
+        }, Function.identity(), Duration.ofMinutes(10));
+
+        replica = new CatalogReplica<>(Optional.of(query), String.class, fallback, true, FIRST_SNAPSHOT_TIMEOUT);
+    }
+
+    @Test
+    void listenerThatNeverFiresBlocksOnlyTheFirstRequest() {
+
+        var startedAt = System.nanoTime();
+
+        assertThat(replica.findAll()).containsExactly("fallback");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(FIRST_SNAPSHOT_TIMEOUT);
+
+        startedAt = System.nanoTime();
+
+        for (var i = 0; i < 10; i++) {
+            assertThat(replica.findAll()).containsExactly("fallback");
+            assertThat(replica.find(List.of("fallback"))).containsExactly("fallback");
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(FIRST_SNAPSHOT_TIMEOUT);
+
+        verify(query, times(1)).addSnapshotListener(any(EventListener.class));
+    }
+
+    @Test
+    void lateFirstSnapshotReplacesTheFallback() {
+
+        assertThat(replica.findAll()).containsExactly("fallback");
+
+        listener.get().onEvent(snapshotAdding("replicated"), null);
+
+        assertThat(replica.findAll()).containsExactly("replicated");
+        assertThat(fallbackLoads).hasValue(1);
+    }
+
+    @Test
+    void writesAreVisibleBeforeTheListenerEchoesThem() {
+
+        replica.findAll();
+        listener.get().onEvent(snapshotAdding("replicated"), null);
+
+        replica.written(List.of("created"), Function.identity());
+
+        assertThat(replica.findAll()).containsExactly("replicated", "created");
+        assertThat(replica.find(List.of("created"))).containsExactly("created");
+
+        replica.removed(List.of("replicated"));
+
+        assertThat(replica.findAll()).containsExactly("created");
+
+        listener.get().onEvent(snapshotAdding("created"), null);
+
+        assertThat(replica.findAll()).containsExactly("created");
+    }
+
+    @Test
+    void writesWhileServingTheFallbackReloadIt() {
+
+        assertThat(replica.findAll()).containsExactly("fallback");
+
+        replica.written(List.of("created"), Function.identity());
+
+        assertThat(replica.findAll()).containsExactly("fallback");
+        assertThat(fallbackLoads).hasValue(2);
+    }
+
+    private static QuerySnapshot snapshotAdding(String id) {
+
+        var document = mock(QueryDocumentSnapshot.class);
+        when(document.getId()).thenReturn(id);
+        when(document.toObject(String.class)).thenReturn(id);
+
+        var change = mock(DocumentChange.class);
+        when(change.getType()).thenReturn(DocumentChange.Type.ADDED);
+        when(change.getDocument()).thenReturn(document);
+
+        var snapshot = mock(QuerySnapshot.class);
+        when(snapshot.getDocumentChanges()).thenReturn(List.of(change));
+
+        return snapshot;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.fitmap.function.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.validation.ConstraintViolationException;
+
+import com.fitmap.function.domain.constants.SportsType;
+import com.fitmap.function.exception.TerminalException;
+import com.fitmap.function.v2.payload.request.SportCreateRequest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class CheckConstraintsRequestBodyServiceTest {
+
+    private static final SportCreateRequest VALID = SportCreateRequest.builder().name("boxing").type(SportsType.GYM).languages(List.of("en")).build();
+    private static final SportCreateRequest INVALID = SportCreateRequest.builder().name(" ").type(SportsType.GYM).languages(List.of("en")).build();
+
+    @Test
+    void arrayBodyIsValidatedElementByElement() {
+
+        assertThatCode(() -> CheckConstraintsRequestBodyService.checkConstraints(new SportCreateRequest[] { VALID })).doesNotThrowAnyException();
+
+        assertThatThrownBy(() -> CheckConstraintsRequestBodyService.checkConstraints(new SportCreateRequest[] { VALID, INVALID }))
+            .isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    void listBodyIsValidatedElementByElement() {
+
+        assertThatThrownBy(() -> CheckConstraintsRequestBodyService.checkConstraints(List.of(VALID, INVALID)))
+            .isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    void nullElementIsABadRequest() {
+
+        assertBadRequest(() -> CheckConstraintsRequestBodyService.checkConstraints(new SportCreateRequest[] { VALID, null }));
+        assertBadRequest(() -> CheckConstraintsRequestBodyService.checkConstraints(Arrays.asList(VALID, null)));
+    }
+
+    @Test
+    void nullBodyIsABadRequest() {
+
+        assertBadRequest(() -> CheckConstraintsRequestBodyService.checkConstraints(null));
+    }
+
+    @Test
+    void unconstrainedTypeIsSkipped() {
+
+        assertThatCode(() -> CheckConstraintsRequestBodyService.checkConstraints(new String[] { "" })).doesNotThrowAnyException();
+    }
+
+    private static void assertBadRequest(Runnable check) {
+
+        assertThatThrownBy(check::run)
+            .isInstanceOf(TerminalException.class)
+            .extracting("status")
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+}
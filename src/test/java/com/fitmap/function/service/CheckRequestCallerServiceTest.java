@@ -0,0 +1,99 @@
+package com.fitmap.function.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import com.fitmap.function.exception.TerminalException;
+import com.google.api.client.json.webtoken.JsonWebSignature;
+import com.google.auth.oauth2.TokenVerifier;
+import com.google.auth.oauth2.TokenVerifier.VerificationException;
+import com.google.cloud.functions.HttpRequest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class CheckRequestCallerServiceTest {
+
+    private static final String INVOKER = "outbox-drain@fitmap.iam.gserviceaccount.com";
+
+    private TokenVerifier verifier;
+    private HttpRequest request;
+
+    @BeforeEach
+    void setUp() {
+
+        verifier = mock(TokenVerifier.class);
+        request = mock(HttpRequest.class);
+        when(request.getFirstHeader("Authorization")).thenReturn(Optional.of("Bearer token"));
+    }
+
+    @Test
+    void acceptsTheConfiguredServiceAccount() throws Exception {
+
+        when(verifier.verify("token")).thenReturn(signature(INVOKER, true));
+
+        assertThatCode(() -> CheckRequestCallerService.checkServiceAccount(request, verifier, INVOKER)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsMissingBearerToken() {
+
+        when(request.getFirstHeader("Authorization")).thenReturn(Optional.empty());
+
+        assertStatus(() -> CheckRequestCallerService.checkServiceAccount(request, verifier, INVOKER), HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void rejectsTokenThatFailsVerification() throws Exception {
+
+        when(verifier.verify("token")).thenThrow(new VerificationException("expired"));
+
+        assertStatus(() -> CheckRequestCallerService.checkServiceAccount(request, verifier, INVOKER), HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void rejectsAnotherServiceAccount() throws Exception {
+
+        when(verifier.verify("token")).thenReturn(signature("someone@fitmap.iam.gserviceaccount.com", true));
+
+        assertStatus(() -> CheckRequestCallerService.checkServiceAccount(request, verifier, INVOKER), HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void rejectsUnverifiedEmail() throws Exception {
+
+        when(verifier.verify("token")).thenReturn(signature(INVOKER, false));
+
+        assertStatus(() -> CheckRequestCallerService.checkServiceAccount(request, verifier, INVOKER), HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void rejectsEveryoneWhenNotConfigured() {
+
+        assertStatus(() -> CheckRequestCallerService.checkServiceAccount(request, verifier, null), HttpStatus.FORBIDDEN);
+        assertStatus(() -> CheckRequestCallerService.checkServiceAccount(request, null, INVOKER), HttpStatus.FORBIDDEN);
+    }
+
+    private static JsonWebSignature signature(String email, boolean emailVerified) {
+
+        var payload = new JsonWebSignature.Payload();
+        payload.set("email", email);
+        payload.set("email_verified", emailVerified);
+
+        return new JsonWebSignature(new JsonWebSignature.Header(), payload, new byte[0], new byte[0]);
+    }
+
+    private static void assertStatus(Runnable check, HttpStatus status) {
+
+        assertThatThrownBy(check::run)
+            .isInstanceOf(TerminalException.class)
+            .extracting("status")
+            .isEqualTo(status);
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.fitmap.function.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteBatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChunkedWriteBatchTest {
+
+    private Firestore db;
+    private List<WriteBatch> batches;
+    private Predicate<Integer> failsBatch;
+
+    @BeforeEach
+    void setUp() {
+
+        db = mock(Firestore.class);
+        batches = new ArrayList<>();
+        failsBatch = index -> false;
+
+        when(db.batch()).thenAnswer(invocation -> {
+            var batch = mock(WriteBatch.class);
+            var failed = failsBatch.test(batches.size());
+            when(batch.commit()).thenReturn(failed
+                ? ApiFutures.immediateFailedFuture(new IllegalStateException("UNAVAILABLE"))
+                : ApiFutures.immediateFuture(List.of()));
+            batches.add(batch);
+            return batch;
+        });
+    }
+
+    @Test
+    void writesThatFitOneBatchIgnoreTheStagesAndCommitOnce() {
+
+        var writer = new ChunkedWriteBatch(db, 5);
+
+        creates(writer, 2);
+        writer.then();
+        creates(writer, 3);
+
+        var result = writer.commit();
+
+        assertThat(result.isFailed()).isFalse();
+        assertThat(result.getChunks()).hasSize(1);
+        assertThat(batches).hasSize(1);
+        verify(batches.get(0), times(5)).create(any(DocumentReference.class), any(Object.class));
+    }
+
+    @Test
+    void largeWritesAreSplitIntoChunksAndStagesCommitInOrder() {
+
+        var writer = new ChunkedWriteBatch(db, 5);
+
+        creates(writer, 7);
+        writer.then();
+        creates(writer, 1);
+
+        var result = writer.commit();
+
+        assertThat(result.isFailed()).isFalse();
+        assertThat(result.getChunks()).extracting(ChunkedWriteBatch.ChunkResult::getStage).containsExactly(0, 0, 1);
+        assertThat(result.getChunks()).extracting(ChunkedWriteBatch.ChunkResult::getOperations).containsExactly(5, 2, 1);
+
+        var order = inOrder(batches.get(0), batches.get(1), batches.get(2));
+        order.verify(batches.get(0)).commit();
+        order.verify(batches.get(1)).commit();
+        order.verify(batches.get(2)).commit();
+    }
+
+    @Test
+    void failedStageStopsTheNextOneAndRollsBackWhatWasCreated() {
+
+        failsBatch = index -> index == 1;
+
+        var writer = new ChunkedWriteBatch(db, 5);
+
+        var committed = creates(writer, 7);
+        writer.then();
+        creates(writer, 1);
+
+        var result = writer.commit();
+
+        assertThat(result.isFailed()).isTrue();
+        assertThat(result.getFirstFailure()).hasMessage("UNAVAILABLE");
+        assertThat(result.getChunks()).extracting(ChunkedWriteBatch.ChunkResult::getStage).containsExactly(0, 0);
+
+        // two chunks of stage 0 plus the rollback, the last stage never ran
+        assertThat(batches).hasSize(3);
+
+        var rollback = batches.get(2);
+
+        committed.subList(0, 5).forEach(ref -> verify(rollback).delete(ref));
+        committed.subList(5, 7).forEach(ref -> verify(rollback, never()).delete(ref));
+    }
+
+    @Test
+    void chunkSizeIsCappedAtTheFirestoreBatchLimit() {
+
+        var writer = new ChunkedWriteBatch(db, 10_000);
+
+        creates(writer, ChunkedWriteBatch.MAX_OPERATIONS_PER_BATCH + 1);
+
+        assertThat(writer.commit().getChunks()).extracting(ChunkedWriteBatch.ChunkResult::getOperations).containsExactly(ChunkedWriteBatch.MAX_OPERATIONS_PER_BATCH, 1);
+    }
+
+    private static List<DocumentReference> creates(ChunkedWriteBatch writer, int amount) {
+
+        var refs = new ArrayList<DocumentReference>();
+
+        for (var i = 0; i < amount; i++) {
+            var ref = mock(DocumentReference.class);
+            refs.add(ref);
+            writer.create(ref, "document-" + i);
+        }
+
+        return refs;
+    }
+
+}
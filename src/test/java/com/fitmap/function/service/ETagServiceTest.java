@@ -0,0 +1,76 @@
+package com.fitmap.function.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.fitmap.function.domain.Gym;
+import com.google.cloud.functions.HttpRequest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class ETagServiceTest {
+
+    private static final List<Gym> GYMS = List.of(
+        Gym.builder().id("b").updatedAt(new Date(2_000)).build(),
+        Gym.builder().id("a").updatedAt(new Date(1_000)).build());
+
+    @Test
+    void etagIsWeakBecauseItIsSharedByEveryContentEncoding() {
+
+        assertThat(etag(GYMS)).matches("W/\"[A-Za-z0-9_-]+\"");
+    }
+
+    @Test
+    void etagDependsOnIdsAndVersionsButNotOnOrder() {
+
+        assertThat(etag(GYMS)).isEqualTo(etag(List.of(GYMS.get(1), GYMS.get(0))));
+        assertThat(etag(GYMS)).isNotEqualTo(etag(List.of(GYMS.get(0), Gym.builder().id("a").updatedAt(new Date(1_001)).build())));
+    }
+
+    @Test
+    void ifNoneMatchMatchesTheWeakAndTheStrongFormOfTheTag() {
+
+        var etag = etag(GYMS);
+        var strong = etag.substring(2);
+
+        assertThat(ETagService.isNotModified(ifNoneMatch(etag), etag)).isTrue();
+        assertThat(ETagService.isNotModified(ifNoneMatch(strong), etag)).isTrue();
+        assertThat(ETagService.isNotModified(ifNoneMatch("\"other\", " + etag), etag)).isTrue();
+    }
+
+    @Test
+    void ifNoneMatchWildcardMatchesAnyExistingRepresentation() {
+
+        assertThat(ETagService.isNotModified(ifNoneMatch("*"), etag(GYMS))).isTrue();
+        assertThat(ETagService.isNotModified(ifNoneMatch("W/\"other\", *"), etag(GYMS))).isTrue();
+        assertThat(ETagService.isNotModified(ifNoneMatch("*"), null)).isFalse();
+    }
+
+    @Test
+    void ifNoneMatchWithAnotherTagIsModified() {
+
+        assertThat(ETagService.isNotModified(ifNoneMatch("W/\"other\""), etag(GYMS))).isFalse();
+        assertThat(ETagService.isNotModified(mock(HttpRequest.class), etag(GYMS))).isFalse();
+    }
+
+    private static String etag(List<Gym> gyms) {
+
+        return ETagService.fromVersions(gyms, Gym::getId, Gym::getUpdatedAt);
+    }
+
+    private static HttpRequest ifNoneMatch(String value) {
+
+        var request = mock(HttpRequest.class);
+
+        when(request.getHeaders()).thenReturn(Map.of(HttpHeaders.IF_NONE_MATCH, List.of(value)));
+
+        return request;
+    }
+
+}
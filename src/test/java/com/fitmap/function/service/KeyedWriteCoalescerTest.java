@@ -0,0 +1,123 @@
+package com.fitmap.function.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+class KeyedWriteCoalescerTest {
+
+    private final KeyedWriteCoalescer coalescer = new KeyedWriteCoalescer();
+
+    @Test
+    void writeWithoutContentionIsAppliedAsSubmitted() {
+
+        var written = new CopyOnWriteArrayList<Map<String, Object>>();
+
+        coalescer.submit("gyms_v2/gym", Map.of("gym.profile_name", "Gym"), fields -> written.add(Map.copyOf(fields)));
+
+        assertThat(written).containsExactly(Map.of("gym.profile_name", "Gym"));
+    }
+
+    @Test
+    void writesQueuedBehindARunningOneAreMergedIntoASingleWrite() throws Exception {
+
+        var written = new CopyOnWriteArrayList<Map<String, Object>>();
+        var firstStarted = new CountDownLatch(1);
+        var releaseFirst = new CountDownLatch(1);
+
+        Consumer<Map<String, Object>> writer = fields -> {
+            written.add(Map.copyOf(fields));
+            if(written.size() == 1) {
+                firstStarted.countDown();
+                await(releaseFirst);
+            }
+        };
+
+        var first = CompletableFuture.runAsync(() -> coalescer.submit("gyms_v2/gym", Map.of("gym.profile_name", "A"), writer));
+        await(firstStarted);
+
+        var second = CompletableFuture.runAsync(() -> coalescer.submit("gyms_v2/gym", Map.of("gym.profile_name", "B", "gym.sports", List.of("boxing")), writer));
+        awaitPendingSubmitters("gyms_v2/gym", 1);
+
+        var third = CompletableFuture.runAsync(() -> coalescer.submit("gyms_v2/gym", Map.of("gym.profile_name", "C"), writer));
+        awaitPendingSubmitters("gyms_v2/gym", 2);
+
+        assertThat(second).isNotDone();
+        assertThat(third).isNotDone();
+
+        releaseFirst.countDown();
+
+        CompletableFuture.allOf(first, second, third).get(5, TimeUnit.SECONDS);
+
+        assertThat(written).containsExactly(
+            Map.of("gym.profile_name", "A"),
+            Map.of("gym.profile_name", "C", "gym.sports", List.of("boxing")));
+    }
+
+    @Test
+    void writesForOtherKeysAreNotHeldBack() throws Exception {
+
+        var releaseGym = new CountDownLatch(1);
+        var gymStarted = new CountDownLatch(1);
+
+        var gym = CompletableFuture.runAsync(() -> coalescer.submit("gyms_v2/gym", Map.of("gym.profile_name", "Gym"), fields -> {
+            gymStarted.countDown();
+            await(releaseGym);
+        }));
+        await(gymStarted);
+
+        var written = new CopyOnWriteArrayList<Map<String, Object>>();
+
+        coalescer.submit("students_v2/student", Map.of("student.profile_name", "Student"), fields -> written.add(Map.copyOf(fields)));
+
+        assertThat(written).hasSize(1);
+        assertThat(gym).isNotDone();
+
+        releaseGym.countDown();
+        gym.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void failedWriteIsRethrownToTheSubmitter() {
+
+        assertThatThrownBy(() -> coalescer.submit("gyms_v2/gym", Map.of("gym.profile_name", "Gym"), fields -> {
+            throw new IllegalStateException("UNAVAILABLE");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("UNAVAILABLE");
+
+        var written = new CopyOnWriteArrayList<Map<String, Object>>();
+
+        coalescer.submit("gyms_v2/gym", Map.of("gym.profile_name", "Gym"), fields -> written.add(Map.copyOf(fields)));
+
+        assertThat(written).hasSize(1);
+    }
+
+    private void awaitPendingSubmitters(String key, int expected) {
+
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (coalescer.pendingSubmitters(key) < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.yield();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
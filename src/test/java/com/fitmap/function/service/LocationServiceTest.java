@@ -0,0 +1,133 @@
+package com.fitmap.function.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+
+import com.fitmap.function.config.RepositoryConfig;
+import com.fitmap.function.domain.Address;
+import com.fitmap.function.domain.Gym;
+import com.fitmap.function.domain.PersonalTrainer;
+import com.fitmap.function.domain.Student;
+import com.fitmap.function.domain.UserType;
+import com.fitmap.function.domain.constants.HydrationLevel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LocationServiceTest {
+
+    private static final Date UPDATED_AT = new Date(1_600_000_000_000L);
+
+    @BeforeEach
+    void setUp() {
+
+        RepositoryConfig.IN_MEMORY_STORE.clear();
+    }
+
+    @Test
+    void gymPinCarriesPictureAndUpdatedAt() {
+
+        RepositoryConfig.IN_MEMORY_STORE.saveGym(Gym
+            .builder()
+            .id("gym")
+            .profileName("Gym")
+            .galleryPicturesUrls(List.of("https://pictures/gym.png", "https://pictures/other.png"))
+            .sports(List.of("boxing"))
+            .focus(List.of("strength"))
+            .createdAt(UPDATED_AT)
+            .updatedAt(UPDATED_AT)
+            .build());
+
+        var pin = LocationService.pin(List.of(withoutPin(Address.builder().gym(Gym.builder().id("gym").build())))).get(0).getPin();
+
+        assertThat(pin.getOwnerType()).isEqualTo(UserType.GYM);
+        assertThat(pin.getProfileName()).isEqualTo("Gym");
+        assertThat(pin.getPictureUrl()).isEqualTo("https://pictures/gym.png");
+        assertThat(pin.getSports()).containsExactly("boxing");
+        assertThat(pin.getFocus()).containsExactly("strength");
+        assertThat(pin.getUpdatedAt()).isEqualTo(UPDATED_AT);
+    }
+
+    @Test
+    void personalTrainerPinCarriesEveryPinField() {
+
+        RepositoryConfig.IN_MEMORY_STORE.savePersonalTrainer(PersonalTrainer
+            .builder()
+            .id("personal-trainer")
+            .profileName("Personal Trainer")
+            .galleryPicturesUrls(List.of("https://pictures/pt.png"))
+            .sports(List.of("running"))
+            .focus(List.of("endurance"))
+            .fights(List.of("judo"))
+            .onlineService(true)
+            .homeService(false)
+            .createdAt(UPDATED_AT)
+            .updatedAt(UPDATED_AT)
+            .build());
+
+        var pin = LocationService.pin(List.of(withoutPin(Address.builder().personalTrainer(PersonalTrainer.builder().id("personal-trainer").build())))).get(0).getPin();
+
+        assertThat(pin.getOwnerType()).isEqualTo(UserType.PERSONAL_TRAINER);
+        assertThat(pin.getPictureUrl()).isEqualTo("https://pictures/pt.png");
+        assertThat(pin.getFights()).containsExactly("judo");
+        assertThat(pin.getOnlineService()).isTrue();
+        assertThat(pin.getHomeService()).isFalse();
+        assertThat(pin.getUpdatedAt()).isEqualTo(UPDATED_AT);
+    }
+
+    @Test
+    void studentPinCarriesPictureAndUpdatedAt() {
+
+        RepositoryConfig.IN_MEMORY_STORE.saveStudent(Student
+            .builder()
+            .id("student")
+            .profileName("Student")
+            .galleryPicturesUrls(List.of("https://pictures/student.png"))
+            .createdAt(UPDATED_AT)
+            .updatedAt(UPDATED_AT)
+            .build());
+
+        var pin = LocationService.pin(List.of(withoutPin(Address.builder().student(Student.builder().id("student").build())))).get(0).getPin();
+
+        assertThat(pin.getOwnerType()).isEqualTo(UserType.STUDENT);
+        assertThat(pin.getPictureUrl()).isEqualTo("https://pictures/student.png");
+        assertThat(pin.getUpdatedAt()).isEqualTo(UPDATED_AT);
+    }
+
+    @Test
+    void pinnedAddressesDropTheEmbeddedOwner() {
+
+        var address = LocationService.pin(List.of(withoutPin(Address.builder().gym(Gym.builder().id("missing").build())))).get(0);
+
+        assertThat(address.getGym()).isNull();
+        assertThat(address.getPersonalTrainer()).isNull();
+        assertThat(address.getStudent()).isNull();
+    }
+
+    @Test
+    void pinHydrationLeavesTheOwnerAddressesUnread() {
+
+        RepositoryConfig.IN_MEMORY_STORE.saveGym(Gym
+            .builder()
+            .id("gym")
+            .profileName("Gym")
+            .addresses(List.of(Address.builder().id("main").mainAddress(true).latitude("-23.5505").longitude("-46.6333").build()))
+            .createdAt(UPDATED_AT)
+            .updatedAt(UPDATED_AT)
+            .build());
+
+        var pinned = LocationService.hydrate(List.of(withoutPin(Address.builder().gym(Gym.builder().id("gym").build()))), HydrationLevel.PIN).get(0).getGym();
+        var summarized = LocationService.hydrate(List.of(withoutPin(Address.builder().gym(Gym.builder().id("gym").build()))), HydrationLevel.SUMMARY).get(0).getGym();
+
+        assertThat(pinned.getAddresses()).isEmpty();
+        assertThat(summarized.getAddresses()).extracting(Address::getId).containsExactly("main");
+    }
+
+    private static Address withoutPin(Address.AddressBuilder builder) {
+
+        return builder.id("address").build();
+    }
+
+}
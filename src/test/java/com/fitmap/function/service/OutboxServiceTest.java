@@ -0,0 +1,109 @@
+package com.fitmap.function.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.OutboxConfig;
+import com.fitmap.function.outbox.CopyWrite;
+import com.fitmap.function.outbox.CopyWrites;
+import com.fitmap.function.outbox.OutboxMessage;
+import com.fitmap.function.outbox.WriteBatches;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.FieldValue;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteBatch;
+
+import org.junit.jupiter.api.Test;
+
+class OutboxServiceTest {
+
+    private static final String ADDRESS_PATH = "gyms_v2/gym/addresses_v2/address";
+
+    @Test
+    void syncModeWritesTheCopiesIntoTheOwnerBatch() {
+
+        assertThat(OutboxConfig.OUTBOX_MODE).isEqualTo(OutboxConfig.SYNC_MODE);
+
+        var batch = mock(WriteBatch.class);
+        when(batch.commit()).thenReturn(ApiFutures.immediateFuture(List.of()));
+
+        var docRef = FirestoreConfig.FIRESTORE.document(ADDRESS_PATH);
+        var copies = OutboxService.copies(batch);
+
+        copies.update(docRef, Map.of("main_address", true));
+
+        OutboxService.commit(batch, copies);
+
+        assertThat(copies.isDeferred()).isFalse();
+        assertThat(copies.getWrites()).isEmpty();
+        verify(batch).update(docRef, Map.<String, Object>of("main_address", true));
+        verify(batch).commit();
+        assertThat(OutboxService.drain(10)).isZero();
+    }
+
+    @Test
+    void deferredCopiesAreRecordedInsteadOfWritten() {
+
+        var docRef = FirestoreConfig.FIRESTORE.document(ADDRESS_PATH);
+        var copies = CopyWrites.deferred();
+
+        copies.set(docRef, "copy").update(docRef, "main_address", true).arrayUnion(docRef, "events", List.of("event"));
+
+        assertThat(copies.isDeferred()).isTrue();
+        assertThat(copies.getWrites())
+            .extracting(CopyWrite::getOperation)
+            .containsExactly(CopyWrite.Operation.SET, CopyWrite.Operation.UPDATE, CopyWrite.Operation.ARRAY_UNION);
+        assertThat(copies.getWrites()).extracting(CopyWrite::getPath).containsOnly(ADDRESS_PATH);
+    }
+
+    @Test
+    void fannedOutDocumentOwnsTheDeferredCopies() {
+
+        var copies = CopyWrites.deferred();
+
+        copies.update(FirestoreConfig.FIRESTORE.document(ADDRESS_PATH), "main_address", true);
+
+        assertThat(copies.getOwner()).isNull();
+
+        copies.fanOut(FirestoreConfig.FIRESTORE.document("gyms_v2/gym"), "gym", Map.of("updated_at", "now"));
+
+        assertThat(copies.getOwner()).isEqualTo("gyms_v2/gym");
+    }
+
+    @Test
+    void deliveredWritesAreReplayedOntoBatchesOfBoundedSize() {
+
+        var db = mock(Firestore.class);
+        var batches = new ArrayList<WriteBatch>();
+
+        when(db.batch()).thenAnswer(invocation -> {
+            var batch = mock(WriteBatch.class);
+            batches.add(batch);
+            return batch;
+        });
+
+        var message = OutboxMessage.of("gyms_v2/gym", List.of(
+            CopyWrite.set(ADDRESS_PATH, "copy"),
+            CopyWrite.update(ADDRESS_PATH, Map.of("main_address", true)),
+            CopyWrite.arrayUnion(ADDRESS_PATH, "events", List.of("event"))));
+
+        OutboxService.addWrites(message, new WriteBatches(db, 2));
+
+        var docRef = FirestoreConfig.FIRESTORE.document(ADDRESS_PATH);
+
+        assertThat(batches).hasSize(2);
+        verify(batches.get(0)).set(docRef, "copy");
+        verify(batches.get(0)).update(docRef, Map.<String, Object>of("main_address", true));
+        verify(batches.get(1)).update(eq(docRef), eq("events"), any(FieldValue.class));
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.fitmap.function.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.fitmap.function.config.CompressionConfig;
+import com.google.cloud.functions.HttpRequest;
+import com.google.cloud.functions.HttpResponse;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.HttpHeaders;
+
+class ResponseCompressionServiceTest {
+
+    private static final String LARGE_BODY = StringUtils.repeat("{\"profile_name\":\"gym\"},", CompressionConfig.RESPONSE_COMPRESSION_MIN_SIZE_BYTES);
+
+    @ParameterizedTest(name = "[{0}] -> {1}")
+    @CsvSource(delimiter = '|', emptyValue = "", value = {
+        "                                  | ",
+        "gzip                              | gzip",
+        "x-gzip                            | gzip",
+        "GZIP;Q=0.8                        | gzip",
+        "deflate                           | deflate",
+        "gzip, deflate                     | gzip",
+        "deflate, gzip                     | gzip",
+        "deflate;q=1, gzip;q=0.5           | deflate",
+        "gzip;q=0.5                        | gzip",
+        "*                                 | gzip",
+        "gzip;q=0, *                       | deflate",
+        "deflate;q=0, *                    | gzip",
+        "gzip;q=0, deflate;q=0, *          | ",
+        "*;q=0                             | ",
+        "*;q=0, deflate                    | deflate",
+        "identity                          | ",
+        "gzip;q=0.5, identity              | ",
+        "gzip, identity;q=0.5              | gzip",
+        "br                                | ",
+        "br, deflate;q=0.1                 | deflate",
+    })
+    void negotiatesTheEncoding(String acceptEncoding, String expected) {
+
+        assertThat(ResponseCompressionService.negotiateEncoding(acceptEncoding(acceptEncoding))).isEqualTo(Optional.ofNullable(expected));
+    }
+
+    @Test
+    void contentEncodingIsSetBeforeTheOutputStreamIsOpened() throws Exception {
+
+        var body = new ByteArrayOutputStream();
+        var response = response(body);
+
+        write(acceptEncoding("gzip"), response, LARGE_BODY);
+
+        var order = inOrder(response);
+        order.verify(response).appendHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        order.verify(response).getOutputStream();
+
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(LARGE_BODY);
+        }
+    }
+
+    @Test
+    void deflateBodyInflatesToTheOriginal() throws Exception {
+
+        var body = new ByteArrayOutputStream();
+
+        write(acceptEncoding("deflate"), response(body), LARGE_BODY);
+
+        try (var inflater = new InflaterInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+            assertThat(new String(inflater.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(LARGE_BODY);
+        }
+    }
+
+    @Test
+    void bodyBelowTheMinimumSizeIsSentAsIs() throws Exception {
+
+        var body = new ByteArrayOutputStream();
+        var response = response(body);
+
+        write(acceptEncoding("gzip"), response, "{}");
+
+        assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo("{}");
+        verify(response, never()).appendHeader(eq(HttpHeaders.CONTENT_ENCODING), anyString());
+        verify(response).appendHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void bodyWithoutAcceptedEncodingIsSentAsIs() throws Exception {
+
+        var body = new ByteArrayOutputStream();
+        var response = response(body);
+
+        write(acceptEncoding(null), response, LARGE_BODY);
+
+        assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo(LARGE_BODY);
+        verify(response, never()).appendHeader(eq(HttpHeaders.CONTENT_ENCODING), anyString());
+    }
+
+    private static void write(HttpRequest request, HttpResponse response, String body) throws Exception {
+
+        try (var output = ResponseCompressionService.openOutputStream(request, response)) {
+            output.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static HttpRequest acceptEncoding(String value) {
+
+        var request = mock(HttpRequest.class);
+
+        when(request.getFirstHeader(HttpHeaders.ACCEPT_ENCODING)).thenReturn(Optional.ofNullable(StringUtils.trimToNull(value)));
+
+        return request;
+    }
+
+    private static HttpResponse response(ByteArrayOutputStream body) throws Exception {
+
+        var response = mock(HttpResponse.class);
+
+        when(response.getOutputStream()).thenReturn(body);
+
+        return response;
+    }
+
+}
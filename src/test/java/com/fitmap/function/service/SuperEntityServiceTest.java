@@ -0,0 +1,92 @@
+package com.fitmap.function.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.fitmap.function.config.FirestoreConfig;
+import com.fitmap.function.config.RepositoryConfig;
+import com.fitmap.function.domain.Address;
+import com.fitmap.function.domain.Gym;
+import com.fitmap.function.domain.Student;
+import com.fitmap.function.outbox.CopyWrite.Operation;
+import com.fitmap.function.outbox.CopyWrites;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.WriteBatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SuperEntityServiceTest {
+
+    @BeforeEach
+    void setUp() {
+
+        RepositoryConfig.IN_MEMORY_STORE.clear();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void touchFansTheNewUpdatedAtOutToTheEmbeddedCopies() {
+
+        var batch = mock(WriteBatch.class);
+        var copies = CopyWrites.deferred();
+
+        SuperEntityService.touch(batch, copies, "gym", Gym.GYMS_COLLECTION);
+
+        var ownerRef = FirestoreConfig.FIRESTORE.collection(Gym.GYMS_COLLECTION).document("gym");
+
+        verify(batch).update(eq(ownerRef), (Map<String, Object>) argThat(fields -> ((Map<String, Object>) fields).get(Gym.UPDATED_AT) instanceof Date));
+
+        assertThat(copies.getWrites()).singleElement().satisfies(write -> {
+            assertThat(write.getOperation()).isEqualTo(Operation.FAN_OUT);
+            assertThat(write.getPath()).isEqualTo(ownerRef.getPath());
+            assertThat(write.getField()).isEqualTo(Address.GYM);
+            assertThat((Map<String, Object>) write.getData()).containsOnlyKeys(Gym.UPDATED_AT);
+        });
+    }
+
+    @Test
+    void touchOfAnotherCollectionHasNoCopiesToRefresh() {
+
+        var copies = CopyWrites.deferred();
+
+        SuperEntityService.touch(mock(WriteBatch.class), copies, "id", "unknown_v2");
+
+        assertThat(copies.getWrites()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fanOutOfUpdatedAtRefreshesTheEmbeddedOwnerAndThePinOfEveryAddress() {
+
+        var updatedAt = new Date(1_600_000_000_000L);
+
+        RepositoryConfig.IN_MEMORY_STORE.saveStudent(Student
+            .builder()
+            .id("student")
+            .profileName("Student")
+            .addresses(List.of(Address.builder().id("home").build(), Address.builder().id("work").build()))
+            .build());
+
+        var batch = mock(WriteBatch.class);
+
+        MasterAddressFanOutService.addFanOut(() -> batch, Student.STUDENTS_COLLECTION, "student", Address.STUDENT, Map.of(Student.UPDATED_AT, updatedAt));
+
+        var expected = Map.<String, Object>of(Address.STUDENT + "." + Student.UPDATED_AT, updatedAt, Address.PIN + ".updatedAt", updatedAt);
+
+        verify(batch, times(2)).update(any(DocumentReference.class), anyMap());
+        verify(batch).update(FirestoreConfig.FIRESTORE.collection(Address.ADDRESSES_COLLECTION).document("home"), expected);
+        verify(batch).update(FirestoreConfig.FIRESTORE.collection(Address.ADDRESSES_COLLECTION).document("work"), expected);
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.fitmap.function.warmup;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.google.cloud.functions.HttpRequest;
+
+public class LocalHttpRequest implements HttpRequest {
+
+    private final String method;
+    private final String path;
+    private final Map<String, List<String>> queryParameters;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+
+    public LocalHttpRequest(String method, String path, Map<String, String> queryParameters, Map<String, String> headers, byte[] body) {
+        this.method = method;
+        this.path = path;
+        this.queryParameters = multiValued(queryParameters);
+        this.headers = multiValued(headers);
+        this.body = body == null ? new byte[0] : body;
+    }
+
+    public static LocalHttpRequest get(String path, Map<String, String> queryParameters) {
+
+        return get(path, queryParameters, Collections.emptyMap());
+    }
+
+    public static LocalHttpRequest get(String path, Map<String, String> queryParameters, Map<String, String> headers) {
+
+        return new LocalHttpRequest("GET", path, queryParameters, headers, null);
+    }
+
+    public static LocalHttpRequest withJsonBody(String method, String path, byte[] body) {
+
+        return new LocalHttpRequest(method, path, Collections.emptyMap(), Map.of("Content-Type", "application/json"), body);
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getUri() {
+        return getQuery().map(query -> path + "?" + query).orElse(path);
+    }
+
+    @Override
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public Optional<String> getQuery() {
+
+        if(queryParameters.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(queryParameters
+            .entrySet()
+            .stream()
+            .map(entry -> entry.getKey() + "=" + entry.getValue().get(0))
+            .collect(Collectors.joining("&")));
+    }
+
+    @Override
+    public Map<String, List<String>> getQueryParameters() {
+        return queryParameters;
+    }
+
+    @Override
+    public Map<String, HttpPart> getParts() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Optional<String> getContentType() {
+        return getFirstHeader("Content-Type");
+    }
+
+    @Override
+    public long getContentLength() {
+        return body.length;
+    }
+
+    @Override
+    public Optional<String> getCharacterEncoding() {
+        return Optional.of(StandardCharsets.UTF_8.name());
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    private static Map<String, List<String>> multiValued(Map<String, String> values) {
+
+        var multiValued = new HashMap<String, List<String>>();
+
+        values.forEach((key, value) -> multiValued.put(key, List.of(value)));
+
+        return Collections.unmodifiableMap(multiValued);
+    }
+
+}
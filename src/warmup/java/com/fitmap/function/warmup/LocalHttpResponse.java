@@ -0,0 +1,99 @@
+package com.fitmap.function.warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.google.cloud.functions.HttpResponse;
+
+public class LocalHttpResponse implements HttpResponse {
+
+    private final Map<String, List<String>> headers = new HashMap<>();
+    private final CountingOutputStream body = new CountingOutputStream();
+
+    private int statusCode = 200;
+    private String contentType;
+    private BufferedWriter writer;
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public long getBodySize() throws IOException {
+
+        if(writer != null) {
+            writer.flush();
+        }
+
+        return body.count;
+    }
+
+    @Override
+    public void setStatusCode(int code) {
+        this.statusCode = code;
+    }
+
+    @Override
+    public void setStatusCode(int code, String message) {
+        this.statusCode = code;
+    }
+
+    @Override
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    @Override
+    public Optional<String> getContentType() {
+        return Optional.ofNullable(contentType);
+    }
+
+    @Override
+    public void appendHeader(String header, String value) {
+        headers.computeIfAbsent(header, ignored -> new ArrayList<>()).add(value);
+    }
+
+    @Override
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return body;
+    }
+
+    @Override
+    public BufferedWriter getWriter() {
+
+        if(writer == null) {
+            writer = new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8));
+        }
+
+        return writer;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+    }
+
+}
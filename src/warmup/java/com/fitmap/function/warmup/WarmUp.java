@@ -0,0 +1,116 @@
+package com.fitmap.function.warmup;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+import com.fitmap.function.config.RepositoryConfig;
+import com.fitmap.function.domain.Gym;
+import com.fitmap.function.v2.FitMapFunction;
+import com.google.cloud.NoCredentials;
+import com.google.cloud.firestore.FirestoreOptions;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.java.Log;
+
+@Log
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class WarmUp {
+
+    public static final String FIRST_RESPONSE = "--first-response";
+
+    private static final String INVALID_GYM_BODY = "{"
+        + "\"profile_name\":\"\","
+        + "\"biography\":\"warm-up\","
+        + "\"sports\":[\"sport0\"],"
+        + "\"address\":{\"address_text\":\"Rua Warm-up, 0\",\"latitude\":\"-23.5505\",\"longitude\":\"-46.6333\"},"
+        + "\"contact\":{\"name\":\"Contact\",\"email\":\"warm-up@fitmap.com\"},"
+        + "\"events\":[{\"name\":\"Event\",\"event_type\":\"CLASS\",\"begin_at\":\"2030-01-01T10:00:00Z\",\"end_at\":\"2030-01-01T11:00:00Z\"}],"
+        + "\"subscription_plans\":[{\"name\":\"Plan\",\"price\":99.9,\"number_month\":1}]"
+        + "}";
+
+    public static void main(String[] args) throws Exception {
+
+        if(System.getProperty("fitmap.repository.mode") == null) {
+            System.setProperty("fitmap.repository.mode", RepositoryConfig.MEMORY_MODE);
+        }
+
+        var jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+        var function = new FitMapFunction();
+
+        var data = WarmUpData.seed(RepositoryConfig.IN_MEMORY_STORE);
+
+        var seededMillis = System.currentTimeMillis() - jvmStartMillis;
+
+        if(Arrays.asList(args).contains(FIRST_RESPONSE)) {
+
+            var response = new LocalHttpResponse();
+
+            function.service(requests(data).get(0), response);
+
+            System.out.println("seeded-millis=" + seededMillis + " time-to-first-response-millis=" + (System.currentTimeMillis() - jvmStartMillis) + " status=" + response.getStatusCode());
+            return;
+        }
+
+        var rounds = args.length > 0 ? NumberUtils.toInt(args[0], 1) : 1;
+
+        var statuses = new TreeMap<String, Integer>();
+
+        for (var round = 0; round < rounds; round++) {
+            for (var request : requests(data)) {
+
+                var response = new LocalHttpResponse();
+
+                function.service(request, response);
+
+                statuses.put(request.getMethod() + " " + request.getUri(), response.getStatusCode());
+            }
+        }
+
+        encodeForFirestore(data);
+
+        log.log(Level.INFO, "Warm-up finished. rounds=" + rounds + ", millis=" + (System.currentTimeMillis() - jvmStartMillis) + ", statuses=" + statuses);
+    }
+
+    public static List<LocalHttpRequest> requests(WarmUpData data) {
+
+        var near = Map.of("lat", Double.toString(WarmUpData.LATITUDE), "lng", Double.toString(WarmUpData.LONGITUDE), "radius", "5");
+        var gymId = Map.of("ids", data.getGymIds().get(0));
+        var gzip = Map.of("Accept-Encoding", "gzip");
+
+        return List.of(
+            LocalHttpRequest.get("/api/v2/locations", near),
+            LocalHttpRequest.get("/api/v2/locations", Map.of("lat", near.get("lat"), "lng", near.get("lng"), "radius", "5", "hydration", "SUMMARY"), gzip),
+            LocalHttpRequest.get("/api/v2/gym", gymId),
+            LocalHttpRequest.get("/api/v2/gym", gymId, Map.of("If-None-Match", "\"warm-up\"")),
+            LocalHttpRequest.get("/api/v2/personal-trainer", Map.of("ids", data.getPersonalTrainerIds().get(0)), gzip),
+            LocalHttpRequest.get("/api/v2/student", Map.of("ids", data.getStudentIds().get(0))),
+            LocalHttpRequest.get("/api/v2/sport", Map.of()),
+            LocalHttpRequest.get("/api/v2/focus", Map.of()),
+            LocalHttpRequest.get("/api/v2/fight", Map.of()),
+            new LocalHttpRequest("POST", "/api/v2/gym", Map.of(), Map.of("Content-Type", "application/json", "User_id", "warm-up"), INVALID_GYM_BODY.getBytes(StandardCharsets.UTF_8)),
+            LocalHttpRequest.get("/api/v2/warm-up", Map.of()));
+    }
+
+    private static void encodeForFirestore(WarmUpData data) throws Exception {
+
+        var options = FirestoreOptions.newBuilder().setProjectId("warm-up").setCredentials(NoCredentials.getInstance()).build();
+
+        try (var db = options.getService()) {
+
+            // never committed: building the batch only loads the Firestore encoding classes into the archive
+            var batch = db.batch();
+
+            data.getGyms().forEach(gym -> batch.set(db.collection(Gym.GYMS_COLLECTION).document(gym.getId()), gym));
+        }
+    }
+
+}
@@ -0,0 +1,189 @@
+package com.fitmap.function.warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.firebase.geofire.core.GeoHash;
+import com.fitmap.function.domain.Address;
+import com.fitmap.function.domain.Contact;
+import com.fitmap.function.domain.Event;
+import com.fitmap.function.domain.Fight;
+import com.fitmap.function.domain.Focus;
+import com.fitmap.function.domain.Gym;
+import com.fitmap.function.domain.PersonalTrainer;
+import com.fitmap.function.domain.Sport;
+import com.fitmap.function.domain.Student;
+import com.fitmap.function.domain.SubscriptionPlan;
+import com.fitmap.function.domain.constants.SportsType;
+import com.fitmap.function.repository.memory.InMemoryStore;
+
+import lombok.Getter;
+
+@Getter
+public class WarmUpData {
+
+    public static final double LATITUDE = -23.5505;
+    public static final double LONGITUDE = -46.6333;
+
+    private static final int OWNERS = 8;
+
+    private final List<String> gymIds = new ArrayList<>();
+    private final List<String> personalTrainerIds = new ArrayList<>();
+    private final List<String> studentIds = new ArrayList<>();
+    private final List<Gym> gyms = new ArrayList<>();
+
+    private long sequence;
+
+    public static WarmUpData seed(InMemoryStore store) {
+
+        var data = new WarmUpData();
+
+        data.seedCatalogs(store);
+
+        for (var i = 0; i < OWNERS; i++) {
+
+            var gym = data.gym(i);
+            store.saveGym(gym);
+            data.gyms.add(gym);
+            data.gymIds.add(gym.getId());
+
+            var personalTrainer = data.personalTrainer(i);
+            store.savePersonalTrainer(personalTrainer);
+            data.personalTrainerIds.add(personalTrainer.getId());
+
+            var student = data.student(i);
+            store.saveStudent(student);
+            data.studentIds.add(student.getId());
+        }
+
+        return data;
+    }
+
+    private void seedCatalogs(InMemoryStore store) {
+
+        for (var i = 0; i < OWNERS; i++) {
+            store.put(Sport.SPORTS_COLLECTION, "sport" + i, Sport.builder().id("sport" + i).name("Sport " + i).type(SportsType.values()[i % SportsType.values().length]).languages(List.of("pt", "en")).build());
+            store.put(Focus.FOCUS_COLLECTION, "focus" + i, Focus.builder().id("focus" + i).name("Focus " + i).languages(List.of("pt", "en")).build());
+            store.put(Fight.FIGHTS_COLLECTION, "fight" + i, Fight.builder().id("fight" + i).name("Fight " + i).languages(List.of("pt", "en")).build());
+        }
+    }
+
+    private Gym gym(int i) {
+
+        var addresses = List.of(address(i, true));
+
+        return Gym.builder()
+            .id(nextId("gym"))
+            .createdAt(new Date())
+            .updatedAt(new Date())
+            .profileName("Gym " + i)
+            .biography("Warm-up gym " + i)
+            .galleryPicturesUrls(List.of("https://storage.googleapis.com/fitmap/warm-up/" + i + ".jpg"))
+            .sports(List.of("sport" + i))
+            .focus(List.of("focus" + i))
+            .addresses(new ArrayList<>(addresses))
+            .contacts(new ArrayList<>(List.of(contact(i))))
+            .events(new ArrayList<>(List.of(event(i, addresses.get(0)))))
+            .subscriptionPlans(new ArrayList<>(List.of(subscriptionPlan(i))))
+            .build();
+    }
+
+    private PersonalTrainer personalTrainer(int i) {
+
+        var addresses = List.of(address(i, true));
+
+        return PersonalTrainer.builder()
+            .id(nextId("personal-trainer"))
+            .createdAt(new Date())
+            .updatedAt(new Date())
+            .profileName("Personal " + i)
+            .biography("Warm-up personal trainer " + i)
+            .galleryPicturesUrls(new ArrayList<>())
+            .sports(List.of("sport" + i))
+            .fights(List.of("fight" + i))
+            .focus(List.of("focus" + i))
+            .onlineService(i % 2 == 0)
+            .homeService(i % 2 == 1)
+            .addresses(new ArrayList<>(addresses))
+            .contacts(new ArrayList<>(List.of(contact(i))))
+            .events(new ArrayList<>(List.of(event(i, addresses.get(0)))))
+            .subscriptionPlans(new ArrayList<>(List.of(subscriptionPlan(i))))
+            .build();
+    }
+
+    private Student student(int i) {
+
+        return Student.builder()
+            .id(nextId("student"))
+            .createdAt(new Date())
+            .updatedAt(new Date())
+            .profileName("Student " + i)
+            .galleryPicturesUrls(new ArrayList<>())
+            .addresses(new ArrayList<>(List.of(address(i, true))))
+            .contacts(new ArrayList<>(List.of(contact(i))))
+            .build();
+    }
+
+    private Address address(int i, boolean mainAddress) {
+
+        var latitude = LATITUDE + i * 0.002;
+        var longitude = LONGITUDE - i * 0.002;
+
+        return Address.builder()
+            .id(nextId("address"))
+            .addressText("Rua Warm-up, " + i + " - Sao Paulo, SP")
+            .mainAddress(mainAddress)
+            .latitude(Double.toString(latitude))
+            .longitude(Double.toString(longitude))
+            .geoHash(new GeoHash(latitude, longitude).getGeoHashString())
+            .build();
+    }
+
+    private Contact contact(int i) {
+
+        return Contact.builder()
+            .id(nextId("contact"))
+            .name("Contact " + i)
+            .email("warm-up" + i + "@fitmap.com")
+            .phone("+551190000000" + i)
+            .mainContact(true)
+            .build();
+    }
+
+    private Event event(int i, Address address) {
+
+        var beginAt = new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(i + 1));
+
+        return Event.builder()
+            .id(nextId("event"))
+            .name("Event " + i)
+            .description("Warm-up event " + i)
+            .eventType("CLASS")
+            .beginAt(beginAt)
+            .endAt(new Date(beginAt.getTime() + TimeUnit.HOURS.toMillis(1)))
+            .address(address)
+            .currentEventValue(BigDecimal.valueOf(5_000 + i, 2))
+            .originalEventValue(BigDecimal.valueOf(7_000 + i, 2))
+            .build();
+    }
+
+    private SubscriptionPlan subscriptionPlan(int i) {
+
+        return SubscriptionPlan.builder()
+            .id(nextId("subscription-plan"))
+            .name("Plan " + i)
+            .price(BigDecimal.valueOf(9_900 + i, 2))
+            .numberMonth(1 + i)
+            .description("Warm-up plan " + i)
+            .build();
+    }
+
+    private String nextId(String prefix) {
+
+        return "warm-up-" + prefix + "-" + sequence++;
+    }
+
+}